@@ -0,0 +1,153 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.TagDictionaryEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.TagDictionaryRepository;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefScores;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.entity.UserPrefScoreEntity;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefDecay;
+import com.HEJZ.HEJZ_back.domain.community.user.entity.UserEntity;
+
+/**
+ * 피드 재랭크 벤치마크 (합성 후보 윈도우 × 취향 벡터 크기)
+ * ./gradlew jmh 로 실행하면 처리량과 gc 프로파일러의 할당률(gc.alloc.rate.norm)이 함께 나온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedRankerBenchmark {
+
+    private static final int AUTHORS = 500;
+    private static final int GENRES = 20;
+    private static final int EMOTIONS = 12;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "60", "300", "10000" })
+    public int candidates;
+
+    @Param({ "0", "20", "200" })
+    public int prefKeys;
+
+    private FeedRanker ranker;
+    private RecentFeedPool pool;
+    private List<FeedEntity> feeds;
+    private PrefScores prefs;
+    private long now;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        TagDictionaryService tags = new TagDictionaryService(tagRepository(), null);
+        tags.load();
+        ranker = new FeedRanker(tags);
+        now = ranker.now();
+
+        List<UserEntity> users = new ArrayList<>(AUTHORS);
+        for (int i = 0; i < AUTHORS; i++) {
+            users.add(UserEntity.builder().id((long) i + 1).username("user" + i).build());
+        }
+
+        LocalDateTime base = LocalDateTime.now();
+        feeds = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            String genre = "genre" + random.nextInt(GENRES);
+            String emotion = "emotion" + random.nextInt(EMOTIONS);
+            feeds.add(FeedEntity.builder()
+                    .id((long) i + 1)
+                    .user(users.get(random.nextInt(AUTHORS)))
+                    .content("feed " + i)
+                    .genre(genre)
+                    .emotion(emotion)
+                    .genreId(tags.idOf(PrefDimension.GENRE, genre))
+                    .emotionId(tags.idOf(PrefDimension.EMOTION, emotion))
+                    .createdAt(base.minusSeconds(random.nextInt(7 * 24 * 3600)))
+                    .build());
+        }
+
+        // 취향 키는 작성자 위주 + 장르/감정 일부
+        List<UserPrefScoreEntity> rows = new ArrayList<>(prefKeys);
+        for (int i = 0; i < prefKeys; i++) {
+            long key = switch (i % 4) {
+                case 0 -> PrefKey.of(PrefDimension.GENRE, 1 + random.nextInt(GENRES));
+                case 1 -> PrefKey.of(PrefDimension.EMOTION, 1 + GENRES + random.nextInt(EMOTIONS));
+                default -> PrefKey.author((long) 1 + random.nextInt(AUTHORS));
+            };
+            rows.add(UserPrefScoreEntity.builder().userId(1L).key(key).score(random.nextDouble() * 5).build());
+        }
+        // 운영 경로와 같이 요청 시각 감쇠 뷰로 채점
+        prefs = PrefScores.from(rows, Integer.MAX_VALUE, now).at(now, new PrefDecay(30, 60, 14));
+
+        pool = new RecentFeedPool(null, tags, ranker);
+        for (FeedEntity f : feeds.subList(Math.max(0, feeds.size() - RecentFeedPool.CAPACITY), feeds.size())) {
+            pool.add(f.getId(), f.getUser().getId(), f.getGenreId(), f.getEmotionId(), f.getCreatedAt());
+        }
+    }
+
+    // 점수 계산만 (후보당 비용)
+    @Benchmark
+    public void scoreAll(Blackhole bh) {
+        for (int i = 0, n = feeds.size(); i < n; i++) {
+            bh.consume(ranker.score(feeds.get(i), prefs, now));
+        }
+    }
+
+    // 한 페이지(상위 20)만 뽑기
+    @Benchmark
+    public List<FeedEntity> topKPage() {
+        return ranker.topK(feeds, prefs, FeedRanker.NO_FOLLOWEES, PAGE_SIZE, now);
+    }
+
+    // 랭킹 스냅샷: 윈도우 전체 정렬
+    @Benchmark
+    public List<FeedEntity> rankWindow() {
+        return ranker.topK(feeds, prefs, FeedRanker.NO_FOLLOWEES, feeds.size(), now);
+    }
+
+    // 최신 피드 풀(primitive 배열, 최대 CAPACITY개) 전체 랭킹
+    @Benchmark
+    public long[] rankPool() {
+        return pool.rank(prefs, FeedRanker.NO_FOLLOWEES, now, TagFilter.NONE).rankedIds();
+    }
+
+    // 사전 id: 장르 1..GENRES, 감정 GENRES+1..
+    private static TagDictionaryRepository tagRepository() {
+        List<TagDictionaryEntity> all = new ArrayList<>();
+        for (int i = 0; i < GENRES; i++) {
+            all.add(TagDictionaryEntity.builder().id(i + 1).dimension(PrefDimension.GENRE).value("genre" + i).build());
+        }
+        for (int i = 0; i < EMOTIONS; i++) {
+            all.add(TagDictionaryEntity.builder().id(GENRES + i + 1).dimension(PrefDimension.EMOTION)
+                    .value("emotion" + i).build());
+        }
+        return (TagDictionaryRepository) Proxy.newProxyInstance(
+                TagDictionaryRepository.class.getClassLoader(),
+                new Class<?>[] { TagDictionaryRepository.class },
+                (proxy, method, args) -> method.getName().equals("findAll") ? all : null);
+    }
+}
@@ -40,30 +40,33 @@ public class CommentController {
 
     /*
      * 호출 url: http://localhost:8080/api/comments/getcomments
-     * 설명: 피드 댓글 조회
+     * 설명: 피드 댓글 조회 (오래된 순, body의 cursor/limit으로 페이지)
      * method: post
      */
     @PostMapping("/getcomments")
     public ResponseEntity<ApiResponse<Object>> getComments(@RequestBody CommentRequest req) {
 
-        ApiResponse<Object> result = commentService.getFeedComments(req.getFeedId());
+        ApiResponse<Object> result = commentService.getFeedComments(req.getFeedId(), req.getCursor(),
+                req.getLimit());
 
         return ResponseEntity.ok(result);
     }
 
     /*
      * 호출 url: http://localhost:8080/api/comments/getmycomments
-     * 설명: 내 댓글 조회
+     * 설명: 내 댓글 조회 (최신 순, ?cursor=&limit= 로 페이지)
      * method: get
      */
     @GetMapping("/getmycomments")
-    public ResponseEntity<ApiResponse<Object>> getMyComments() {
+    public ResponseEntity<ApiResponse<Object>> getMyComments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
         Authentication authentication = SecurityContextHolder.getContext()
                 .getAuthentication();
 
         String username = authentication.getName();
-        ApiResponse<Object> result = commentService.getMyComments(username);
+        ApiResponse<Object> result = commentService.getMyComments(username, cursor, limit);
 
         return ResponseEntity.ok(result);
     }
@@ -1,10 +1,12 @@
 package com.HEJZ.HEJZ_back.domain.community.feed.controller;
 
-import com.HEJZ.HEJZ_back.domain.community.follow.repository.FollowRepository;
+import com.HEJZ.HEJZ_back.domain.community.follow.service.FollowGraph;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedCreateRequest;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedScoreDebugDto;
 import com.HEJZ.HEJZ_back.domain.community.feed.service.FeedService;
 import com.HEJZ.HEJZ_back.domain.community.feed.service.RateLimitService;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.TagDictionaryService;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.TagFilter;
 import com.HEJZ.HEJZ_back.domain.community.user.entity.UserEntity;
 import com.HEJZ.HEJZ_back.domain.community.user.repository.UserRepository;
 import com.HEJZ.HEJZ_back.global.response.ApiResponse;
@@ -25,7 +27,8 @@ public class FeedController {
     private final FeedService feedService;
     private final UserRepository userRepository;
     private final RateLimitService rateLimitService;
-    private final FollowRepository followRepository;
+    private final FollowGraph followGraph;
+    private final TagDictionaryService tagDictionary;
 
     private Long getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -53,13 +56,14 @@ public class FeedController {
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<Object>> myFeeds(
             @RequestParam(defaultValue = "20") int limit,
-            @RequestParam(required = false) String cursor) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean explain) { // 랭킹 설명 기록 opt-in
         Long userId = getCurrentUserId();
         if (!rateLimitService.allowRequest(userId)) {
             return ResponseEntity.status(429)
                     .body(new ApiResponse<>(429, null, "요청 횟수 초과. 1분 후 다시 시도해주세요."));
         }
-        var response = feedService.getMyFeeds(userId, limit, cursor);
+        var response = feedService.getMyFeeds(userId, limit, cursor, explain);
         return ResponseEntity.ok(new ApiResponse<>(200, response, "조회 성공"));
     }
 
@@ -68,21 +72,17 @@ public class FeedController {
     public ResponseEntity<ApiResponse<Object>> userFeeds(
             @PathVariable String username,
             @RequestParam(defaultValue = "20") int limit,
-            @RequestParam(required = false) String cursor) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean explain) { // 랭킹 설명 기록 opt-in
 
         Long viewerId = getCurrentUserId(); // 조회자(나)
-        var viewer = userRepository.findById(viewerId).orElseThrow(() -> new RuntimeException("viewer 없음"));
-        var target = userRepository.findByUsername(username);
-        if (target == null) {
+        Long targetId = userRepository.findIdByUsername(username);
+        if (targetId == null) {
             return ResponseEntity.status(404).body(new ApiResponse<>(404, null, "유저 없음"));
         }
 
-        boolean allowed = viewer.getId().equals(target.getId()); // 본인은 항상 허용
-        if (!allowed) {
-            boolean isFollower = followRepository
-                    .existsByFollower_UsernameAndFollowing_Username(viewer.getUsername(), username);
-            allowed = isFollower;
-        }
+        // 본인은 항상 허용, 팔로우 여부는 메모리 팔로우 그래프로
+        boolean allowed = viewerId.equals(targetId) || followGraph.isFollowing(viewerId, targetId);
 
         if (!allowed) {
             return ResponseEntity.status(403).body(new ApiResponse<>(403, null, "팔로워만 열람 가능합니다."));
@@ -93,7 +93,7 @@ public class FeedController {
                     .body(new ApiResponse<>(429, null, "요청 횟수 초과. 1분 후 다시 시도해주세요."));
         }
 
-        var resp = feedService.getMyFeeds(target.getId(), limit, cursor);
+        var resp = feedService.getMyFeeds(targetId, limit, cursor, explain);
         return ResponseEntity.ok(new ApiResponse<>(200, resp, "조회 성공"));
     }
 
@@ -101,13 +101,17 @@ public class FeedController {
     @GetMapping("/timeline")
     public ResponseEntity<ApiResponse<Object>> timeline(
             @RequestParam(defaultValue = "20") int limit,
-            @RequestParam(required = false) String cursor) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean explain, // 랭킹 설명 기록 opt-in
+            @RequestParam(required = false) List<String> genre, // 장르 필터 (여러 개면 OR)
+            @RequestParam(required = false) List<String> emotion) { // 감정 필터 (여러 개면 OR)
         Long userId = getCurrentUserId();
         if (!rateLimitService.allowRequest(userId)) {
             return ResponseEntity.status(429)
                     .body(new ApiResponse<>(429, null, "요청 횟수 초과. 1분 후 다시 시도해주세요."));
         }
-        var resp = feedService.getTimelineFeeds(userId, limit, cursor);
+        var resp = feedService.getTimelineFeeds(userId, limit, cursor, explain,
+                TagFilter.of(genre, emotion, tagDictionary));
         return ResponseEntity.ok(new ApiResponse<>(200, resp, "조회 성공"));
     }
 
@@ -119,20 +123,41 @@ public class FeedController {
         return ResponseEntity.ok(feedService.getTimelineFeedsWithScores(userId, limit));
     }
 
-    // 전역 피드: 누구의 글이든(삭제 제외) 최신순
+    // 전역 피드: 누구의 글이든(삭제 제외) hot 순 후보를 개인화 재랭크
     @GetMapping("/global")
     public ResponseEntity<ApiResponse<Object>> global(
             @RequestParam(defaultValue = "20") int limit,
-            @RequestParam(required = false) String cursor) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean explain, // 랭킹 설명 기록 opt-in
+            @RequestParam(required = false) List<String> genre, // 장르 필터 (여러 개면 OR)
+            @RequestParam(required = false) List<String> emotion) { // 감정 필터 (여러 개면 OR)
         Long userId = getCurrentUserId();
         if (!rateLimitService.allowRequest(userId)) {
             return ResponseEntity.status(429)
                     .body(new ApiResponse<>(429, null, "요청 횟수 초과. 1분 후 다시 시도해주세요."));
         }
-        var resp = feedService.getGlobalFeeds(userId, limit, cursor);
+        var resp = feedService.getGlobalFeeds(userId, limit, cursor, explain,
+                TagFilter.of(genre, emotion, tagDictionary));
         return ResponseEntity.ok(new ApiResponse<>(200, resp, "조회 성공"));
     }
 
+    // 장르/감정 패싯별 피드 수 (다른 차원 필터 적용)
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<Object>> facets(
+            @RequestParam(required = false) List<String> genre,
+            @RequestParam(required = false) List<String> emotion) {
+        Long userId = getCurrentUserId();
+        if (!rateLimitService.allowRequest(userId)) {
+            return ResponseEntity.status(429)
+                    .body(new ApiResponse<>(429, null, "요청 횟수 초과. 1분 후 다시 시도해주세요."));
+        }
+        var counts = feedService.getFacetCounts(TagFilter.of(genre, emotion, tagDictionary));
+        if (counts == null) {
+            return ResponseEntity.status(503).body(new ApiResponse<>(503, null, "패싯 인덱스 준비 중"));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(200, counts, "조회 성공"));
+    }
+
     @GetMapping("/{feedId}")
     public ResponseEntity<ApiResponse<Object>> getFeed(@PathVariable Long feedId) {
         Long userId = getCurrentUserId();
@@ -2,6 +2,8 @@ package com.HEJZ.HEJZ_back.domain.community.feed.controller;
 
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.CommentLikeRequest;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedLikeRequest;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.LikeListRequest;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.LikeStatesRequest;
 import com.HEJZ.HEJZ_back.domain.community.feed.service.LikeService;
 import com.HEJZ.HEJZ_back.global.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -54,11 +56,11 @@ public class LikeController {
 
     /*
      * 호출 url: http://localhost:8080/api/feeds/like/get_list_of_like
-     * 설명: 해당 게시글 좋아요 누른 유저 리스트 조회
+     * 설명: 해당 게시글 좋아요 누른 유저 리스트 조회 (좋아요 최신 순, body의 cursor/limit으로 페이지)
      * 메소드: post
      */
     @PostMapping("/get_list_of_like")
-    public ResponseEntity<ApiResponse<Object>> getListOfLike(@RequestBody FeedLikeRequest likeRequest) {
+    public ResponseEntity<ApiResponse<Object>> getListOfLike(@RequestBody LikeListRequest likeRequest) {
 
         ApiResponse<Object> result = likeService.getListOfLike(likeRequest);
 
@@ -67,17 +69,19 @@ public class LikeController {
 
     /*
      * 호출 url: http://localhost:8080/api/feeds/get_my_list_of_like
-     * 설명: 내가 좋아요 누른 게시글 리스트 조회
+     * 설명: 내가 좋아요 누른 게시글 리스트 조회 (좋아요 최신 순, ?cursor=&limit= 로 페이지)
      * 메소드: get
      */
     @GetMapping("/get_my_list_of_like")
-    public ResponseEntity<ApiResponse<Object>> getMyListOfLike() {
+    public ResponseEntity<ApiResponse<Object>> getMyListOfLike(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
         Authentication authentication = SecurityContextHolder.getContext()
                 .getAuthentication();
         String username = authentication.getName();
 
-        ApiResponse<Object> result = likeService.getMyListOfLike(username);
+        ApiResponse<Object> result = likeService.getMyListOfLike(username, cursor, limit);
 
         return ResponseEntity.ok(result);
     }
@@ -96,4 +100,19 @@ public class LikeController {
 
         return ResponseEntity.ok(result);
     }
+
+    /*
+     * 호출 url: http://localhost:8080/api/feeds/like/states
+     * 설명: 피드 목록의 좋아요 상태 일괄 조회 (feedId → true/false, 최대 100개)
+     * 메소드: post
+     */
+    @PostMapping("/states")
+    public ResponseEntity<ApiResponse<Object>> getLikeStates(@RequestBody LikeStatesRequest req) {
+        Authentication authentication = SecurityContextHolder.getContext()
+                .getAuthentication();
+        String username = authentication.getName();
+        ApiResponse<Object> result = likeService.getLikeStates(req.feedIds(), username);
+
+        return ResponseEntity.ok(result);
+    }
 }
@@ -0,0 +1,9 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.dto;
+
+import java.util.List;
+
+/**
+ * 댓글 목록 응답 (키셋 페이지). nextCursor가 null이면 마지막 페이지
+ */
+public record CommentPageResponse(List<CommentDto> items, String nextCursor) {
+}
@@ -7,4 +7,6 @@ import lombok.Setter;
 @Setter
 public class CommentRequest {
     private Long feedId;
+    private String cursor; // 이전 응답의 nextCursor (첫 페이지는 null)
+    private Integer limit;
 }
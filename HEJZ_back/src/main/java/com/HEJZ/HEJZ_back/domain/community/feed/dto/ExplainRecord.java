@@ -0,0 +1,18 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.dto;
+
+import java.time.LocalDateTime;
+
+// 랭킹 설명 한 줄 (ExplainSink → JSON lines)
+public record ExplainRecord(
+        LocalDateTime at,
+        Long userId,
+        String source, // MY | TIMELINE | GLOBAL | TIMELINE_DEBUG
+        int rank,
+        Long feedId,
+        Long authorId,
+        String genre,
+        String emotion,
+        Long ageSeconds,
+        Double totalScore,
+        FeedScoreDebugDto.ScoreBreakdown breakdown) {
+}
@@ -0,0 +1,9 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.dto;
+
+import java.util.Map;
+
+/**
+ * 장르/감정 패싯별 피드 수 (개수 내림차순)
+ */
+public record FeedFacetCounts(Map<String, Long> genres, Map<String, Long> emotions) {
+}
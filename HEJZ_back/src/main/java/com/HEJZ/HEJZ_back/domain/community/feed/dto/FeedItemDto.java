@@ -10,5 +10,7 @@ public record FeedItemDto(
         List<MediaDto> media,
         String emotion,
         String genre,
-        LocalDateTime createdAt) {
+        LocalDateTime createdAt,
+        long likeCount,
+        long commentCount) {
 }
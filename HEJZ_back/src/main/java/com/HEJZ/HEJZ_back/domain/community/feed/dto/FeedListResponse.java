@@ -2,7 +2,14 @@ package com.HEJZ.HEJZ_back.domain.community.feed.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 피드 목록 응답
+ * items는 상세/검색과 같은 가벼운 FeedItemDto, 점수 상세(explain)는 explain=true 요청에만 포함
+ */
 public record FeedListResponse(
-                List<FeedScoreDebugDto> items,
+                List<FeedItemDto> items,
+                @JsonInclude(JsonInclude.Include.NON_NULL) List<FeedScoreDebugDto> explain,
                 String nextCursor) {
 }
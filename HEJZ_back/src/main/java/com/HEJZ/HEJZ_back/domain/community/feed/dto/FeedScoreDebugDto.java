@@ -45,5 +45,8 @@ public class FeedScoreDebugDto {
         // 최신성 점수 (W_RECENCY = 0.3)
         private Double recencyScore; // 최신성 원본 점수
         private Double recencyWeightedScore; // 최신성 가중 점수 (recencyScore * 0.3)
+
+        // 팔로잉 가산 (전역 피드에서 팔로잉 작성자면 100)
+        private Double followBoost;
     }
 }
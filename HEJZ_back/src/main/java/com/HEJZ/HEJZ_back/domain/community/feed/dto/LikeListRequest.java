@@ -0,0 +1,5 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.dto;
+
+// cursor: 이전 응답의 nextCursor (첫 페이지는 null)
+public record LikeListRequest(Long feedId, String cursor, Integer limit) {
+}
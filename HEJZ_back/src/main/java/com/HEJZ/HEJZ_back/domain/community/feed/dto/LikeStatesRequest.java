@@ -0,0 +1,6 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.dto;
+
+import java.util.List;
+
+public record LikeStatesRequest(List<Long> feedIds) {
+}
@@ -0,0 +1,7 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.dto;
+
+import java.time.LocalDateTime;
+
+// 피드에 좋아요 누른 유저
+public record LikerDto(Long userId, String username, LocalDateTime likedAt) {
+}
@@ -0,0 +1,9 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.dto;
+
+import java.util.List;
+
+/**
+ * 좋아요 누른 유저 목록 응답 (좋아요 최신 순 키셋 페이지). nextCursor가 null이면 마지막 페이지
+ */
+public record LikerPageResponse(List<LikerDto> items, String nextCursor) {
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -27,7 +28,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_feed_created_id", columnList = "feed_id, created_at, id"),
+        @Index(name = "idx_user_created_id", columnList = "user_id, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -55,6 +59,10 @@ public class CommentEntity {
     @JsonManagedReference
     private List<CommentLikeEntity> commentLike;
 
+    // write-behind 카운터 (CounterBuffer). NULL이면 백필 전
+    @Column(name = "like_count")
+    private Long likeCount = 0L;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
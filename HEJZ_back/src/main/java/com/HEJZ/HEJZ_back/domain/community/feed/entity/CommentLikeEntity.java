@@ -18,6 +18,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,7 +26,10 @@ import lombok.Setter;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "comment_likes")
+@Table(name = "comment_likes", uniqueConstraints = {
+        // 같은 유저가 같은 댓글에 한 번만 (좋아요 토글은 INSERT IGNORE / DELETE 영향 행 수로 판단)
+        @UniqueConstraint(name = "uk_comment_likes_comment_user", columnNames = { "comment_id", "user_id" })
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -15,7 +15,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "feeds", indexes = {
-        @Index(name = "idx_user_deleted_created_id", columnList = "user_id, is_deleted, created_at DESC, id DESC")
+        @Index(name = "idx_user_deleted_created_id", columnList = "user_id, is_deleted, created_at DESC, id DESC"),
+        @Index(name = "idx_deleted_hot_id", columnList = "is_deleted, hot_score DESC, id DESC")
 })
 @Getter
 @Setter
@@ -64,4 +65,25 @@ public class FeedEntity {
 
     @Column(name = "genre")
     private String genre;
+
+    // 태그 사전(tag_dictionary) id. 랭킹/필터는 문자열 대신 이 값을 쓴다. NULL이면 백필 전 행
+    @Column(name = "emotion_id")
+    private Integer emotionId;
+
+    @Column(name = "genre_id")
+    private Integer genreId;
+
+    @Builder.Default
+    @Column(name = "like_count", nullable = false)
+    private long likeCount = 0;
+
+    // NULL이면 컬럼 추가 이전 행 (CounterBuffer.backfillNulls에서 채움)
+    @Builder.Default
+    @Column(name = "comment_count")
+    private Long commentCount = 0L;
+
+    // 시간 독립 인기 점수 (HotScore 참고). 좋아요 변경 시 증분 갱신
+    // NULL이면 컬럼 추가 이전 행 (FeedService.backfillHotScoreBatch에서 채움). 0도 정상 점수
+    @Column(name = "hot_score")
+    private Double hotScore;
 }
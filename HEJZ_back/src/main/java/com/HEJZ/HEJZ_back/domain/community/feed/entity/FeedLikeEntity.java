@@ -15,9 +15,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,7 +27,14 @@ import lombok.Setter;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "feed_likes")
+@Table(name = "feed_likes", uniqueConstraints = {
+        // 같은 유저가 같은 피드에 한 번만 (좋아요 토글은 INSERT IGNORE / DELETE 영향 행 수로 판단)
+        @UniqueConstraint(name = "uk_feed_likes_feed_user", columnNames = { "feed_id", "user_id" })
+}, indexes = {
+        // 좋아요 목록 키셋 (내 좋아요 / 피드별 좋아요 누른 유저)
+        @Index(name = "idx_feed_likes_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_feed_likes_feed_created_id", columnList = "feed_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
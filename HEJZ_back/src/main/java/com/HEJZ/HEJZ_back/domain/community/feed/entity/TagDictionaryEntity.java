@@ -0,0 +1,43 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.entity;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 장르/감정 문자열 → 짧은 정수 id 사전
+ * 취향 키와 랭킹은 문자열 대신 이 id를 쓴다.
+ */
+@Entity
+@Table(name = "tag_dictionary", uniqueConstraints = @UniqueConstraint(name = "uk_tag_dimension_value", columnNames = {
+        "dimension", "tag_value" }))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagDictionaryEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PrefDimension dimension; // GENRE | EMOTION
+
+    @Column(name = "tag_value", nullable = false, length = 100)
+    private String value;
+}
@@ -0,0 +1,51 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 팔로워별 타임라인 인박스 (fan-out-on-write)
+ * 피드 작성 커밋 시 작성자의 팔로워마다 한 줄씩 들어간다.
+ */
+@Entity
+@Table(name = "timeline_inbox", uniqueConstraints = @UniqueConstraint(name = "uk_inbox_owner_feed", columnNames = {
+        "owner_id", "feed_id" }), indexes = {
+                @Index(name = "idx_inbox_owner_created_feed", columnList = "owner_id, created_at DESC, feed_id DESC"),
+                @Index(name = "idx_inbox_owner_author", columnList = "owner_id, author_id"),
+                @Index(name = "idx_inbox_feed", columnList = "feed_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimelineInboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId; // 인박스 주인 (팔로워)
+
+    @Column(name = "feed_id", nullable = false)
+    private Long feedId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId; // 언팔로우 시 일괄 삭제용
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 피드 작성 시각 (키셋 정렬 기준)
+}
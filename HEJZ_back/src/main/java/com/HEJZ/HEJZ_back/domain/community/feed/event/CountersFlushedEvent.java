@@ -0,0 +1,9 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.event;
+
+import java.util.Map;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer.Counter;
+
+// CounterBuffer가 DB에 반영한 증분 (id → delta)
+public record CountersFlushedEvent(Counter counter, Map<Long, Long> deltas) {
+}
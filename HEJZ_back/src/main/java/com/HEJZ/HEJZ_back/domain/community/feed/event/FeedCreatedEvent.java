@@ -0,0 +1,6 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.event;
+
+import java.time.LocalDateTime;
+
+public record FeedCreatedEvent(Long feedId, Long authorId, LocalDateTime createdAt, int genreId, int emotionId) {
+}
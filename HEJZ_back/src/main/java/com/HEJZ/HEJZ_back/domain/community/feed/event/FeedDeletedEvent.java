@@ -0,0 +1,4 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.event;
+
+public record FeedDeletedEvent(Long feedId, Long authorId) {
+}
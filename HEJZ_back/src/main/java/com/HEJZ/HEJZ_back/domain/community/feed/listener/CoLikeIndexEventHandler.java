@@ -0,0 +1,37 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CoLikeIndex;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedUnlikedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋된 좋아요/취소만 공동 좋아요 인덱스에 반영한다. (메모리 인덱스라 기동 시 DB에서 다시 채움)
+ */
+@Component
+@RequiredArgsConstructor
+public class CoLikeIndexEventHandler {
+
+    private final CoLikeIndex index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        index.warmUp();
+    }
+
+    @TransactionalEventListener
+    public void onFeedLiked(FeedLikedEvent e) {
+        index.onLiked(e.userId(), e.feedId());
+    }
+
+    @TransactionalEventListener
+    public void onFeedUnliked(FeedUnlikedEvent e) {
+        index.onUnliked(e.userId(), e.feedId());
+    }
+}
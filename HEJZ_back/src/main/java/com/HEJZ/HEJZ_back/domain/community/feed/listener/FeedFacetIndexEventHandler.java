@@ -0,0 +1,37 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedCreatedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedDeletedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.FeedFacetIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋된 피드 작성/삭제만 패싯 인덱스에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedFacetIndexEventHandler {
+
+    private final FeedFacetIndex index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        index.warmUp();
+    }
+
+    @TransactionalEventListener
+    public void onFeedCreated(FeedCreatedEvent e) {
+        index.add(e.feedId(), e.genreId(), e.emotionId());
+    }
+
+    @TransactionalEventListener
+    public void onFeedDeleted(FeedDeletedEvent e) {
+        index.remove(e.feedId());
+    }
+}
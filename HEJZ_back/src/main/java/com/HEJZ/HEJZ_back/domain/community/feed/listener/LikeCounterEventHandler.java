@@ -0,0 +1,74 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.listener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer.Counter;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedUnlikedEvent;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogConsumer;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogOffsetStore;
+import com.HEJZ.HEJZ_back.global.eventlog.LoggedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 로그 소비자: 피드 좋아요 수(like_count, hot_score)
+ * 배치 안의 증감을 피드별로 합쳐 CounterBuffer에 한 번에 넣는다. (DB 반영은 CounterBuffer 배치 flush)
+ * 버퍼에 넘긴 seq 이하는 다시 받아도 건너뛰고, 오프셋 파일은 버퍼가 DB에 커밋한 seq까지만 전진한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeCounterEventHandler implements EventLogConsumer {
+
+    private final CounterBuffer counterBuffer;
+    private final EventLogOffsetStore offsetStore;
+
+    private long accepted = -1; // 버퍼에 넘긴 마지막 seq (-1: 아직 DB에서 안 읽음)
+
+    @Override
+    public String name() {
+        return "like-counter";
+    }
+
+    @Override
+    public void handle(List<LoggedEvent> batch) {
+        long from = accepted();
+        long last = from;
+        Map<Long, Long> deltas = new HashMap<>();
+        for (LoggedEvent logged : batch) {
+            if (logged.seq() <= from) {
+                continue;
+            }
+            Object event = logged.event();
+            if (event instanceof FeedLikedEvent e) {
+                deltas.merge(e.feedId(), 1L, Long::sum);
+                last = logged.seq();
+            } else if (event instanceof FeedUnlikedEvent e) {
+                deltas.merge(e.feedId(), -1L, Long::sum);
+                last = logged.seq();
+            }
+        }
+        if (last > from) {
+            counterBuffer.addLogged(name(), last, Counter.FEED_LIKE, deltas);
+            accepted = last;
+        }
+    }
+
+    @Override
+    public long durableSeq(long handledSeq) {
+        long applied = offsetStore.appliedSeq(name());
+        return accepted() <= applied ? handledSeq : applied;
+    }
+
+    private long accepted() {
+        if (accepted < 0) {
+            accepted = offsetStore.appliedSeq(name());
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,37 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedCreatedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedDeletedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.RecentFeedPool;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋된 피드 작성/삭제만 최신 피드 풀에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentFeedPoolEventHandler {
+
+    private final RecentFeedPool pool;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        pool.warmUp();
+    }
+
+    @TransactionalEventListener
+    public void onFeedCreated(FeedCreatedEvent e) {
+        pool.add(e.feedId(), e.authorId(), e.genreId(), e.emotionId(), e.createdAt());
+    }
+
+    @TransactionalEventListener
+    public void onFeedDeleted(FeedDeletedEvent e) {
+        pool.remove(e.feedId());
+    }
+}
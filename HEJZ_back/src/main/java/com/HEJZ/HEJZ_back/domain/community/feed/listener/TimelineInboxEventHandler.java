@@ -0,0 +1,48 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.listener;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedCreatedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedDeletedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.TimelineInboxService;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.FollowedEvent;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.UnfollowedEvent;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogConsumer;
+import com.HEJZ.HEJZ_back.global.eventlog.LoggedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 로그 소비자: 타임라인 인박스 fan-out
+ * 로그에는 커밋된 이벤트만 있으므로 롤백된 피드는 fan-out 되지 않는다.
+ * 인박스 서비스 호출마다 각자 트랜잭션이며, 재전달돼도 같은 결과가 되는 연산들이다. (insert ignore / delete)
+ */
+@Component
+@RequiredArgsConstructor
+public class TimelineInboxEventHandler implements EventLogConsumer {
+
+    private final TimelineInboxService inboxService;
+
+    @Override
+    public String name() {
+        return "timeline-inbox";
+    }
+
+    @Override
+    public void handle(List<LoggedEvent> batch) {
+        for (LoggedEvent logged : batch) {
+            Object event = logged.event();
+            if (event instanceof FeedCreatedEvent e) {
+                inboxService.fanOut(e.feedId(), e.authorId(), e.createdAt());
+            } else if (event instanceof FeedDeletedEvent e) {
+                inboxService.removeFeed(e.feedId());
+            } else if (event instanceof FollowedEvent e) {
+                inboxService.onFollow(e.followerId(), e.followingId());
+            } else if (event instanceof UnfollowedEvent e) {
+                inboxService.onUnfollow(e.followerId(), e.followingId());
+            }
+        }
+    }
+}
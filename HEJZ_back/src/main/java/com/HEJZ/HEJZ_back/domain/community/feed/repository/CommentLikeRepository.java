@@ -1,7 +1,11 @@
 package com.HEJZ.HEJZ_back.domain.community.feed.repository;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.HEJZ.HEJZ_back.domain.community.feed.entity.CommentLikeEntity;
 
@@ -13,7 +17,20 @@ public interface CommentLikeRepository extends JpaRepository<CommentLikeEntity,
 
     long countByComment_Id(Long commentId);
 
+    // 좋아요 추가. 이미 있으면(유니크 키) 0, 새로 들어가면 1
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT IGNORE INTO comment_likes (comment_id, user_id, created_at)
+            VALUES (:commentId, :userId, :createdAt)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("commentId") Long commentId,
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    // 좋아요 취소. 지운 행 수 반환 (엔티티를 읽지 않는 벌크 삭제)
     @Modifying
     @Transactional
-    void deleteByCommentIdAndUserId(Long commentId, Long userId);
+    @Query("DELETE FROM CommentLikeEntity l WHERE l.comment.id = :commentId AND l.user.id = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
 }
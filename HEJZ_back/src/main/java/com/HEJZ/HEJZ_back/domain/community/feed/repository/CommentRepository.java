@@ -1,6 +1,8 @@
 package com.HEJZ.HEJZ_back.domain.community.feed.repository;
 
 import jakarta.transaction.Transactional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,21 +11,49 @@ import org.springframework.stereotype.Repository;
 
 import com.HEJZ.HEJZ_back.domain.community.feed.entity.CommentEntity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
-    @Transactional
+    // 피드 댓글: 오래된 순 키셋 페이지 (작성자 fetch join)
+    @Query("""
+            SELECT c FROM CommentEntity c
+            JOIN FETCH c.user
+            WHERE c.feed.id = :feedId
+            AND (
+            :cursorCreatedAt IS NULL
+            OR (c.createdAt > :cursorCreatedAt)
+            OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)
+            )
+            ORDER BY c.createdAt ASC, c.id ASC
+            """)
+    List<CommentEntity> findFeedCommentsPage(
+            @Param("feedId") Long feedId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 내 댓글: 최신 순 키셋 페이지 (작성자는 나이므로 join 없음)
     @Query("""
-                select c from CommentEntity c
-                join fetch c.user u
-                where u.username = :username
-                order by c.createdAt desc
+            SELECT c FROM CommentEntity c
+            WHERE c.user.id = :userId
+            AND (
+            :cursorCreatedAt IS NULL
+            OR (c.createdAt < :cursorCreatedAt)
+            OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)
+            )
+            ORDER BY c.createdAt DESC, c.id DESC
             """)
-    List<CommentEntity> findByUsernameWithUser(String username);
+    List<CommentEntity> findMyCommentsPage(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
-    List<CommentEntity> findByFeedId(Long feedId);
+    @Query("select c.feed.id from CommentEntity c where c.id = :id")
+    Long findFeedIdById(@Param("id") Long id);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Transactional
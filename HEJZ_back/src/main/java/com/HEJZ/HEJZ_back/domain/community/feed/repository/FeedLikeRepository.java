@@ -1,9 +1,14 @@
 package com.HEJZ.HEJZ_back.domain.community.feed.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedLikeEntity;
 
@@ -12,11 +17,72 @@ import jakarta.transaction.Transactional;
 public interface FeedLikeRepository extends JpaRepository<FeedLikeEntity, Long> {
     boolean existsByFeedIdAndUserId(Long feedId, Long userId);
 
+    // 좋아요 추가. 이미 있으면(유니크 키) 0, 새로 들어가면 1
     @Modifying
     @Transactional
-    void deleteByFeedIdAndUserId(Long feedId, Long userId);
+    @Query(value = """
+            INSERT IGNORE INTO feed_likes (feed_id, user_id, created_at)
+            VALUES (:feedId, :userId, :createdAt)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("feedId") Long feedId,
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt);
 
-    List<FeedLikeEntity> findByFeedId(Long feedId);
+    // 좋아요 취소. 지운 행 수 반환 (엔티티를 읽지 않는 벌크 삭제)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM FeedLikeEntity l WHERE l.feed.id = :feedId AND l.user.id = :userId")
+    int deleteByFeedIdAndUserId(@Param("feedId") Long feedId, @Param("userId") Long userId);
+
+    // 주어진 피드 중 내가 좋아요 한 것 (피드 목록 좋아요 상태 일괄 조회)
+    @Query("SELECT l.feed.id FROM FeedLikeEntity l WHERE l.user.id = :userId AND l.feed.id IN :feedIds")
+    List<Long> findLikedFeedIds(@Param("userId") Long userId, @Param("feedIds") Collection<Long> feedIds);
+
+    // 내가 좋아요 한 피드: (likeId, likedAt, feedId)만 좋아요 최신 순 키셋으로 (삭제된 피드 제외)
+    @Query("""
+            SELECT l.id, l.createdAt, f.id FROM FeedLikeEntity l
+            JOIN l.feed f
+            WHERE l.user.id = :userId
+            AND f.isDeleted = false
+            AND (
+            :cursorCreatedAt IS NULL
+            OR (l.createdAt < :cursorCreatedAt)
+            OR (l.createdAt = :cursorCreatedAt AND l.id < :cursorId)
+            )
+            ORDER BY l.createdAt DESC, l.id DESC
+            """)
+    List<Object[]> findMyLikedFeedIds(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 피드에 좋아요 누른 유저: (likeId, likedAt, userId, username) 좋아요 최신 순 키셋
+    @Query("""
+            SELECT l.id, l.createdAt, u.id, u.username FROM FeedLikeEntity l
+            JOIN l.user u
+            WHERE l.feed.id = :feedId
+            AND (
+            :cursorCreatedAt IS NULL
+            OR (l.createdAt < :cursorCreatedAt)
+            OR (l.createdAt = :cursorCreatedAt AND l.id < :cursorId)
+            )
+            ORDER BY l.createdAt DESC, l.id DESC
+            """)
+    List<Object[]> findLikersPage(
+            @Param("feedId") Long feedId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("SELECT MAX(l.id) FROM FeedLikeEntity l")
+    Long findMaxId();
 
-    List<FeedLikeEntity> findByUserId(Long userId);
+    // 공동 좋아요 인덱스 적재용 (id, userId, feedId) 키셋 배치. id 오름차순 = 좋아요 순서
+    @Query("""
+            SELECT l.id, l.user.id, l.feed.id FROM FeedLikeEntity l
+            WHERE l.id > :afterId
+            ORDER BY l.id
+            """)
+    List<Object[]> findLikePairs(@Param("afterId") Long afterId, Pageable pageable);
 }
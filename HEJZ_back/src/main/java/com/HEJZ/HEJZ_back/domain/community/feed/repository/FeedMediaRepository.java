@@ -0,0 +1,21 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedMediaEntity;
+
+public interface FeedMediaRepository extends JpaRepository<FeedMediaEntity, Long> {
+
+    // 한 페이지 피드들의 미디어를 한 번에 (피드별 ord 순)
+    @Query("""
+            SELECT m FROM FeedMediaEntity m
+            WHERE m.feed.id IN :feedIds
+            ORDER BY m.feed.id, m.ord
+            """)
+    List<FeedMediaEntity> findAllByFeedIdIn(@Param("feedIds") Collection<Long> feedIds);
+}
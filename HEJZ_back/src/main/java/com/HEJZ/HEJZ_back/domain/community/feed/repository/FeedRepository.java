@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,114 +29,102 @@ public interface FeedRepository extends JpaRepository<FeedEntity, Long> {
             @Param("cursorId") Long cursorId,
             Pageable pageable);
 
-    @Query("SELECT f FROM FeedEntity f WHERE f.isDeleted = false ORDER BY f.createdAt DESC")
-    List<FeedEntity> findAllNotDeleted();
-
+    // 전체 피드 스트리밍 스캔용 키셋 배치 (작성자 fetch join)
     @Query("""
-            SELECT f
-            FROM FeedEntity f
-            LEFT JOIN f.user u
-            LEFT JOIN FollowEntity fol
-                   ON fol.following.id = f.user.id AND fol.follower.id = :userId
-            LEFT JOIN UserPrefScoreEntity pa
-                   ON pa.userId = :userId
-                   AND pa.key = CONCAT('author:', CAST(f.user.id AS string))
-                   AND pa.updatedAt = (
-                       SELECT MAX(pa2.updatedAt)
-                       FROM UserPrefScoreEntity pa2
-                       WHERE pa2.userId = :userId
-                       AND pa2.key = pa.key
-                   )
-            LEFT JOIN UserPrefScoreEntity pg
-                   ON pg.userId = :userId
-                   AND pg.key = CONCAT('genre:', f.genre)
-                   AND pg.updatedAt = (
-                       SELECT MAX(pg2.updatedAt)
-                       FROM UserPrefScoreEntity pg2
-                       WHERE pg2.userId = :userId
-                       AND pg2.key = pg.key
-                   )
-            LEFT JOIN UserPrefScoreEntity pe
-                   ON pe.userId = :userId
-                   AND pe.key = CONCAT('emotion:', f.emotion)
-                   AND pe.updatedAt = (
-                       SELECT MAX(pe2.updatedAt)
-                       FROM UserPrefScoreEntity pe2
-                       WHERE pe2.userId = :userId
-                       AND pe2.key = pe.key
-                   )
+            SELECT f FROM FeedEntity f
+            JOIN FETCH f.user
             WHERE f.isDeleted = false
-              AND (:cursorCreatedAt IS NULL
-                   OR f.createdAt < :cursorCreatedAt
-                   OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId))
-            GROUP BY f.id
-            ORDER BY
-                MAX(CASE WHEN fol.id IS NOT NULL THEN 100.0 ELSE 0.0 END +
-                    COALESCE(pa.score, 0) * 5.0 +
-                    COALESCE(pg.score, 0) * 3.0 +
-                    COALESCE(pe.score, 0) * 2.0) DESC,
-                f.createdAt DESC,
-                f.id DESC
+            AND (
+            :cursorCreatedAt IS NULL
+            OR (f.createdAt < :cursorCreatedAt)
+            OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)
+            )
+            ORDER BY f.createdAt DESC, f.id DESC
             """)
-    List<FeedEntity> findGlobalFeeds(
-            @Param("userId") Long userId,
+    List<FeedEntity> findNotDeletedBatch(
             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
             @Param("cursorId") Long cursorId,
             Pageable pageable);
 
+    // 전역 피드 후보: hot_score 인덱스 범위 스캔 (개인화는 메모리 재랭크에서)
+    // horizon이 있으면 최신 피드 풀이 이미 다룬 구간(horizon 이후 작성)을 제외
     @Query("""
-                SELECT f
-                FROM FeedEntity f
-                INNER JOIN f.user u
-                INNER JOIN FollowEntity fol
-                       ON fol.following.id = f.user.id AND fol.follower.id = :userId
-                LEFT JOIN UserPrefScoreEntity pa
-                       ON pa.userId = :userId
-                       AND pa.key = CONCAT('author:', CAST(f.user.id AS string))
-                       AND pa.updatedAt = (
-                           SELECT MAX(pa2.updatedAt)
-                           FROM UserPrefScoreEntity pa2
-                           WHERE pa2.userId = :userId
-                           AND pa2.key = pa.key
-                       )
-                LEFT JOIN UserPrefScoreEntity pg
-                       ON pg.userId = :userId
-                       AND pg.key = CONCAT('genre:', f.genre)
-                       AND pg.updatedAt = (
-                           SELECT MAX(pg2.updatedAt)
-                           FROM UserPrefScoreEntity pg2
-                           WHERE pg2.userId = :userId
-                           AND pg2.key = pg.key
-                       )
-                LEFT JOIN UserPrefScoreEntity pe
-                       ON pe.userId = :userId
-                       AND pe.key = CONCAT('emotion:', f.emotion)
-                       AND pe.updatedAt = (
-                           SELECT MAX(pe2.updatedAt)
-                           FROM UserPrefScoreEntity pe2
-                           WHERE pe2.userId = :userId
-                           AND pe2.key = pe.key
-                       )
-                WHERE f.isDeleted = false
-                  AND (:cursorCreatedAt IS NULL
-                       OR f.createdAt < :cursorCreatedAt
-                       OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId))
-                GROUP BY f.id
-                ORDER BY
-                    MAX(100.0 +
-                        COALESCE(pa.score, 0) * 10.0 +
-                        COALESCE(pg.score, 0) * 3.0 +
-                        COALESCE(pe.score, 0) * 2.0) DESC,
-                    f.createdAt DESC,
-                    f.id DESC
+            SELECT f FROM FeedEntity f
+            WHERE f.isDeleted = false
+            AND (
+            :horizonCreatedAt IS NULL
+            OR (f.createdAt < :horizonCreatedAt)
+            OR (f.createdAt = :horizonCreatedAt AND f.id < :horizonId)
+            )
+            AND (
+            :cursorHotScore IS NULL
+            OR (f.hotScore < :cursorHotScore)
+            OR (f.hotScore = :cursorHotScore AND f.id < :cursorId)
+            )
+            ORDER BY f.hotScore DESC, f.id DESC
             """)
-    List<FeedEntity> findTimelineFeeds(
-            @Param("userId") Long userId,
-            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+    List<FeedEntity> findGlobalFeeds(
+            @Param("horizonCreatedAt") LocalDateTime horizonCreatedAt,
+            @Param("horizonId") Long horizonId,
+            @Param("cursorHotScore") Double cursorHotScore,
             @Param("cursorId") Long cursorId,
             Pageable pageable);
 
-    @EntityGraph(attributePaths = "images") // images를 즉시 로딩
+    // 태그 id 백필 대상 값 (컬럼 추가 전 피드)
+    @Query("SELECT DISTINCT f.genre FROM FeedEntity f WHERE f.genreId IS NULL AND f.genre IS NOT NULL")
+    List<String> findUnmappedGenres();
+
+    @Query("SELECT DISTINCT f.emotion FROM FeedEntity f WHERE f.emotionId IS NULL AND f.emotion IS NOT NULL")
+    List<String> findUnmappedEmotions();
+
+    @Modifying
+    @Query("UPDATE FeedEntity f SET f.genreId = :id WHERE f.genreId IS NULL AND f.genre = :value")
+    int assignGenreId(@Param("value") String value, @Param("id") Integer id);
+
+    @Modifying
+    @Query("UPDATE FeedEntity f SET f.emotionId = :id WHERE f.emotionId IS NULL AND f.emotion = :value")
+    int assignEmotionId(@Param("value") String value, @Param("id") Integer id);
+
+    // 패싯 인덱스 적재용 (id, genreId, emotionId, genre, emotion) id 키셋 배치
+    @Query("""
+            SELECT f.id, f.genreId, f.emotionId, f.genre, f.emotion FROM FeedEntity f
+            WHERE f.isDeleted = false AND f.id > :afterId
+            ORDER BY f.id
+            """)
+    List<Object[]> findFacetRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    // hot_score 백필 대상 (컬럼 추가 전 피드). 삭제 안 된 피드만 → (is_deleted, hot_score) 인덱스의 NULL 구간만 읽는다
+    @Query("SELECT f FROM FeedEntity f WHERE f.isDeleted = false AND f.hotScore IS NULL AND f.id > :afterId ORDER BY f.id")
+    List<FeedEntity> findMissingHotScore(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            SELECT l.feed.id, COUNT(l) FROM FeedLikeEntity l
+            WHERE l.feed.id IN :feedIds
+            GROUP BY l.feed.id
+            """)
+    List<Object[]> countLikesByFeedIds(@Param("feedIds") Collection<Long> feedIds);
+
+    // 타임라인 인박스에서 읽은 id로 피드 로드 (작성자 fetch join)
+    @Query("""
+            SELECT f FROM FeedEntity f
+            JOIN FETCH f.user
+            WHERE f.id IN :ids
+            AND f.isDeleted = false
+            """)
+    List<FeedEntity> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 취향 상위 작성자의 최근 피드 (타임라인 후보, 작성자 fetch join)
+    // (user_id, is_deleted, created_at) 인덱스로 작성자마다 범위를 읽는다
+    @Query("""
+            SELECT f FROM FeedEntity f
+            JOIN FETCH f.user
+            WHERE f.user.id IN :authorIds
+            AND f.isDeleted = false
+            ORDER BY f.createdAt DESC, f.id DESC
+            """)
+    List<FeedEntity> findRecentByAuthorIds(@Param("authorIds") Collection<Long> authorIds, Pageable pageable);
+
+    // 미디어는 FeedHydrator가 따로 일괄 로드 (컬렉션 fetch + 페이징은 메모리 페이징이 됨)
     @Query("""
               SELECT f
               FROM FeedEntity f
@@ -0,0 +1,13 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.TagDictionaryEntity;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+
+public interface TagDictionaryRepository extends JpaRepository<TagDictionaryEntity, Integer> {
+
+    Optional<TagDictionaryEntity> findByDimensionAndValue(PrefDimension dimension, String value);
+}
@@ -0,0 +1,110 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.TimelineInboxEntity;
+
+public interface TimelineInboxRepository extends JpaRepository<TimelineInboxEntity, Long> {
+
+    // 인박스 키셋 페이지 (최신순)
+    @Query("""
+            SELECT i FROM TimelineInboxEntity i
+            WHERE i.ownerId = :ownerId
+            AND (
+            :cursorCreatedAt IS NULL
+            OR (i.createdAt < :cursorCreatedAt)
+            OR (i.createdAt = :cursorCreatedAt AND i.feedId < :cursorId)
+            )
+            ORDER BY i.createdAt DESC, i.feedId DESC
+            """)
+    List<TimelineInboxEntity> findPage(
+            @Param("ownerId") Long ownerId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 피드 작성 → 작성자의 모든 팔로워 인박스에 한 번에 push
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO timeline_inbox (owner_id, feed_id, author_id, created_at)
+            SELECT fol.follower_id, :feedId, :authorId, :createdAt
+            FROM follows fol
+            WHERE fol.following_id = :authorId
+            """, nativeQuery = true)
+    int fanOut(@Param("feedId") Long feedId,
+            @Param("authorId") Long authorId,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    // 팔로우 시작 → 상대의 최근 피드를 내 인박스에 채움
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO timeline_inbox (owner_id, feed_id, author_id, created_at)
+            SELECT :ownerId, f.id, f.user_id, f.created_at
+            FROM feeds f
+            WHERE f.user_id = :authorId
+            AND f.is_deleted = false
+            ORDER BY f.created_at DESC, f.id DESC
+            LIMIT :cap
+            """, nativeQuery = true)
+    int backfillFromAuthor(@Param("ownerId") Long ownerId,
+            @Param("authorId") Long authorId,
+            @Param("cap") int cap);
+
+    // 재구축: 팔로잉 전체의 최근 피드를 cap개까지
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO timeline_inbox (owner_id, feed_id, author_id, created_at)
+            SELECT :ownerId, f.id, f.user_id, f.created_at
+            FROM feeds f
+            JOIN follows fol ON fol.following_id = f.user_id
+            WHERE fol.follower_id = :ownerId
+            AND f.is_deleted = false
+            ORDER BY f.created_at DESC, f.id DESC
+            LIMIT :cap
+            """, nativeQuery = true)
+    int rebuildOwner(@Param("ownerId") Long ownerId, @Param("cap") int cap);
+
+    // 주어진 피드 중 이미 내 인박스에 있는 것
+    @Query("SELECT i.feedId FROM TimelineInboxEntity i WHERE i.ownerId = :ownerId AND i.feedId IN :feedIds")
+    List<Long> findFeedIdsIn(@Param("ownerId") Long ownerId, @Param("feedIds") Collection<Long> feedIds);
+
+    @Modifying
+    @Query("DELETE FROM TimelineInboxEntity i WHERE i.feedId = :feedId")
+    int deleteByFeedId(@Param("feedId") Long feedId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineInboxEntity i WHERE i.ownerId = :ownerId AND i.authorId = :authorId")
+    int deleteByOwnerIdAndAuthorId(@Param("ownerId") Long ownerId, @Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineInboxEntity i WHERE i.ownerId = :ownerId")
+    int deleteByOwnerId(@Param("ownerId") Long ownerId);
+
+    // cap 초과 인박스 주인 목록
+    @Query("""
+            SELECT i.ownerId FROM TimelineInboxEntity i
+            GROUP BY i.ownerId
+            HAVING COUNT(i) > :cap
+            """)
+    List<Long> findOwnersOverCap(@Param("cap") long cap);
+
+    // 경계(cap번째) 이후 항목 삭제
+    @Modifying
+    @Query("""
+            DELETE FROM TimelineInboxEntity i
+            WHERE i.ownerId = :ownerId
+            AND (i.createdAt < :boundaryCreatedAt
+            OR (i.createdAt = :boundaryCreatedAt AND i.feedId < :boundaryFeedId))
+            """)
+    int deleteOlderThan(@Param("ownerId") Long ownerId,
+            @Param("boundaryCreatedAt") LocalDateTime boundaryCreatedAt,
+            @Param("boundaryFeedId") Long boundaryFeedId);
+}
@@ -0,0 +1,23 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CoLikeIndex;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class CoLikeCompactionScheduler {
+
+    private final CoLikeIndex coLikeIndex;
+
+    // 매 10분마다 공동 좋아요 점수 감쇠 + 약한 쌍 정리 + 메모리 상한 적용
+    @Scheduled(cron = "0 5/10 * * * *")
+    public void compact() {
+        if (coLikeIndex.isReady()) {
+            coLikeIndex.compact();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.scheduler;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterFlushScheduler {
+
+    private final CounterBuffer counterBuffer;
+
+    // 카운터 컬럼 추가 이전 행(NULL)을 원본 테이블 기준으로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCounts() {
+        int rows = counterBuffer.backfillNulls();
+        if (rows > 0) {
+            log.info("댓글/좋아요 카운터 백필 완료: {}건", rows);
+        }
+    }
+
+    // 300ms마다 쌓인 카운터 증분을 배치로 반영
+    @Scheduled(fixedDelay = 300)
+    public void flush() {
+        counterBuffer.flush();
+    }
+}
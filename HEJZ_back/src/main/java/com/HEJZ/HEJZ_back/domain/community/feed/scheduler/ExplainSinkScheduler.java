@@ -0,0 +1,19 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.scheduler;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.ExplainSink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ExplainSinkScheduler {
+
+    private final ExplainSink explainSink;
+
+    // 1초마다 랭킹 설명 버퍼를 파일로
+    @Scheduled(fixedDelay = 1000)
+    public void drain() {
+        explainSink.drain();
+    }
+}
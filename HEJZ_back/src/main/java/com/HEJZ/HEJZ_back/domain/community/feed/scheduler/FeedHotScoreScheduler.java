@@ -0,0 +1,40 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.scheduler;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedHotScoreScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final FeedService feedService;
+
+    // hot_score 컬럼 추가 이전 피드를 좋아요 수 기준으로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillHotScores() {
+        long total = 0;
+        Long afterId = 0L;
+        while ((afterId = feedService.backfillHotScoreBatch(afterId, BATCH_SIZE)) != null) {
+            total++;
+        }
+        if (total > 0) {
+            log.info("피드 hot_score 백필 완료: {}배치", total);
+        }
+    }
+
+    // genre_id/emotion_id 컬럼 추가 이전 피드를 태그 사전 id로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTagIds() {
+        int updated = feedService.backfillTagIds();
+        if (updated > 0) {
+            log.info("피드 태그 id 백필 완료: {}건", updated);
+        }
+    }
+}
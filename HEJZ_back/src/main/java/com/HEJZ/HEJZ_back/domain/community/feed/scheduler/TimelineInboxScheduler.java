@@ -0,0 +1,37 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.scheduler;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.TimelineInboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineInboxScheduler {
+
+    private final TimelineInboxService inboxService;
+
+    // 인박스 테이블이 비어 있으면 기존 팔로우/피드로 백필
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!inboxService.isEmpty()) {
+            return;
+        }
+        log.info("타임라인 인박스 백필 시작");
+        int owners = inboxService.rebuildAll();
+        log.info("타임라인 인박스 백필 완료: {}명", owners);
+    }
+
+    // 매 10분마다 인박스 용량 제한 적용
+    @Scheduled(cron = "0 */10 * * * *")
+    public void trimInboxes() {
+        int trimmed = inboxService.trimAll();
+        if (trimmed > 0) {
+            log.info("타임라인 인박스 정리 완료: {}명", trimmed);
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedLikeRepository;
+import com.HEJZ.HEJZ_back.global.util.BoundedTopK;
+import com.HEJZ.HEJZ_back.global.util.LongDoubleHashMap;
+import com.HEJZ.HEJZ_back.global.util.LongFloatHashMap;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공동 좋아요(item-to-item) 유사도 인덱스
+ * 같은 유저가 좋아요 한 피드 쌍마다 공동 좋아요 수를 세어, 피드 → 이웃 피드(long → float) 희소 맵으로 들고 있다.
+ * 좋아요 한 번은 그 유저의 최근 좋아요(USER_HISTORY개)와만 짝을 만든다.
+ *
+ * 메모리 상한
+ * - 피드당 이웃은 max-neighbors의 2배를 넘으면 공동 좋아요 수 상위 max-neighbors개로 잘라낸다.
+ * - compact()가 주기적으로 점수를 감쇠시키고 MIN_COUNT 미만 쌍을 버린다.
+ *   그래도 전체 항목 수가 max-entries를 넘으면 피드당 이웃 수를 비례해서 줄이고, 그래도 넘치면 약한 쌍부터 버린다.
+ *
+ * warm-up 중 들어온 좋아요/취소는 모아 두었다가 적재가 끝난 뒤 순서대로 반영한다.
+ * (최근 좋아요 순서가 DB 순서와 어긋나거나, 아직 적재 안 된 좋아요의 취소가 무시되지 않게)
+ */
+@Slf4j
+@Component
+public class CoLikeIndex {
+
+    static final int USER_HISTORY = 50; // 유저별 최근 좋아요 (짝을 만드는 범위, 후보 생성 시드)
+    static final float MIN_COUNT = 0.5f; // 컴팩션 후 이 값 미만 쌍은 버림
+    private static final int MIN_NEIGHBORS = 4;
+    private static final int WARM_UP_BATCH = 5000;
+
+    private final FeedLikeRepository feedLikeRepository;
+    private final int maxNeighbors;
+    private final long maxEntries;
+    private final float decay;
+    private final int warmUpLikes;
+
+    private final Map<Long, LongFloatHashMap> neighbors = new HashMap<>();
+    private final Cache<Long, RecentLikes> userLikes;
+    private long entries; // 방향별 쌍 수 (a→b, b→a 각각)
+    private List<long[]> pending; // warm-up 중 들어온 변경 {userId, feedId, 1=좋아요/0=취소}
+    private volatile boolean ready;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public CoLikeIndex(FeedLikeRepository feedLikeRepository,
+            @Value("${feed.colike.max-neighbors:50}") int maxNeighbors,
+            @Value("${feed.colike.max-entries:2000000}") long maxEntries,
+            @Value("${feed.colike.decay:0.9}") double decay,
+            @Value("${feed.colike.warm-up-likes:200000}") int warmUpLikes,
+            @Value("${feed.colike.max-users:100000}") int maxUsers) {
+        this.feedLikeRepository = feedLikeRepository;
+        this.maxNeighbors = maxNeighbors;
+        this.maxEntries = maxEntries;
+        this.decay = (float) decay;
+        this.warmUpLikes = warmUpLikes;
+        this.userLikes = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(7, TimeUnit.DAYS)
+                .build();
+    }
+
+    /** 최근 좋아요 warm-up-likes건을 순서대로 재생해서 채우기 (기동 시, id 키셋 배치) */
+    public void warmUp() {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                return; // 이미 적재 중
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long total;
+        int replayed;
+        int feeds;
+        long pairs;
+        try {
+            total = load();
+        } finally {
+            // 실패해도 모아 둔 이벤트는 반영하고 실시간 반영으로 돌아간다
+            lock.writeLock().lock();
+            try {
+                for (long[] op : pending) {
+                    if (op[2] == 1) {
+                        like(op[0], op[1]);
+                    } else {
+                        unlike(op[0], op[1]);
+                    }
+                }
+                replayed = pending.size();
+                pending = null;
+                feeds = neighbors.size();
+                pairs = entries;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        ready = true;
+        log.info("공동 좋아요 인덱스 적재: 좋아요 {}건, 재적용 {}건, 피드 {}개, 쌍 {}개, 약 {}KB",
+                total, replayed, feeds, pairs, sizeInBytes() / 1024);
+    }
+
+    // 좋아요 순서대로 재생. 재생한 건수
+    private long load() {
+        Long maxId = feedLikeRepository.findMaxId();
+        long afterId = (maxId == null) ? 0L : Math.max(0L, maxId - warmUpLikes);
+        long total = 0;
+        while (true) {
+            List<Object[]> rows = feedLikeRepository.findLikePairs(afterId, PageRequest.of(0, WARM_UP_BATCH));
+            lock.writeLock().lock();
+            try {
+                for (Object[] r : rows) {
+                    like((Long) r[1], (Long) r[2]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            total += rows.size();
+            if (rows.size() < WARM_UP_BATCH) {
+                return total;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void onLiked(long userId, long feedId) {
+        update(userId, feedId, true);
+    }
+
+    public void onUnliked(long userId, long feedId) {
+        update(userId, feedId, false);
+    }
+
+    private void update(long userId, long feedId, boolean liked) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(new long[] { userId, feedId, liked ? 1 : 0 });
+            } else if (liked) {
+                like(userId, feedId);
+            } else {
+                unlike(userId, feedId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락 안에서 호출
+    private void like(long userId, long feedId) {
+        RecentLikes history = userLikes.get(userId, k -> new RecentLikes());
+        if (history.contains(feedId)) {
+            return; // 중복 이벤트
+        }
+        for (int i = 0; i < history.size; i++) {
+            bump(feedId, history.ids[i], 1f);
+            bump(history.ids[i], feedId, 1f);
+        }
+        history.add(feedId);
+    }
+
+    // 쓰기 락 안에서 호출
+    private void unlike(long userId, long feedId) {
+        RecentLikes history = userLikes.getIfPresent(userId);
+        // 최근 기록 밖의 좋아요는 짝을 만든 적이 없으므로 뺄 것도 없다
+        if (history == null || !history.remove(feedId)) {
+            return;
+        }
+        for (int i = 0; i < history.size; i++) {
+            bump(feedId, history.ids[i], -1f);
+            bump(history.ids[i], feedId, -1f);
+        }
+    }
+
+    private void bump(long feedId, long otherId, float delta) {
+        LongFloatHashMap m = neighbors.get(feedId);
+        if (m == null) {
+            if (delta <= 0f) {
+                return;
+            }
+            m = new LongFloatHashMap();
+            neighbors.put(feedId, m);
+        }
+        int before = m.size();
+        if (m.addTo(otherId, delta) <= 0f) {
+            m.remove(otherId);
+        }
+        if (m.size() > 2 * maxNeighbors) {
+            m = prune(m, maxNeighbors, 1f, 0f);
+            neighbors.put(feedId, m);
+        }
+        if (m.isEmpty()) {
+            neighbors.remove(feedId);
+        }
+        entries += m.size() - before;
+    }
+
+    /** 피드와 공동 좋아요가 많은 피드 id (많은 순) */
+    public long[] similar(long feedId, int limit) {
+        lock.readLock().lock();
+        try {
+            LongFloatHashMap m = neighbors.get(feedId);
+            if (m == null || limit <= 0) {
+                return new long[0];
+            }
+            BoundedTopK<Void> heap = new BoundedTopK<>(Math.min(limit, m.size()));
+            m.forEach((id, count) -> heap.offer(count, 0L, id, null));
+            return heap.drainSortedIds();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 유저의 최근 좋아요를 시드로 이웃 점수를 합산한 후보 피드 id (점수 순)
+     * 이미 최근에 좋아요 한 피드는 뺀다.
+     */
+    public long[] candidatesFor(long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            RecentLikes history = userLikes.getIfPresent(userId);
+            if (history == null || history.size == 0 || limit <= 0) {
+                return new long[0];
+            }
+            LongDoubleHashMap scores = new LongDoubleHashMap(history.size * maxNeighbors);
+            for (int i = 0; i < history.size; i++) {
+                LongFloatHashMap m = neighbors.get(history.ids[i]);
+                if (m != null) {
+                    m.forEach((id, count) -> scores.addTo(id, count));
+                }
+            }
+            BoundedTopK<Void> heap = new BoundedTopK<>(limit);
+            scores.forEach((id, score) -> {
+                if (!history.contains(id)) {
+                    heap.offer(score, 0L, id, null);
+                }
+            });
+            return heap.drainSortedIds();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주기 컴팩션: 감쇠 → MIN_COUNT 미만 제거 → 피드당 상한. 전체가 max-entries를 넘으면 피드당 상한 축소, 최소 공동 좋아요 수 상향
+     * @return 컴팩션 후 항목 수
+     */
+    public long compact() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            long before = entries;
+            int cap = maxNeighbors;
+            float minCount = MIN_COUNT;
+            compactAll(cap, decay, minCount);
+            if (entries > maxEntries) {
+                cap = (int) Math.max(MIN_NEIGHBORS, (long) maxNeighbors * maxEntries / entries);
+                compactAll(cap, 1f, minCount);
+            }
+            // 피드 수가 많아 최소 이웃 수로도 넘치면 전체에서 약한 쌍부터 버린다
+            if (entries > maxEntries) {
+                minCount = Math.max(minCount, keepThreshold());
+                compactAll(cap, 1f, minCount);
+            }
+            if (entries > maxEntries) {
+                // 경계 값 동점이 많아 넘친 경우
+                minCount = Math.nextUp(minCount);
+                compactAll(cap, 1f, minCount);
+            }
+            log.info("공동 좋아요 인덱스 컴팩션: 쌍 {} → {}, 피드 {}개, 피드당 상한 {}, 최소 공동 좋아요 {}, 약 {}KB, {}ms",
+                    before, entries, neighbors.size(), cap, minCount, sizeInBytes() / 1024,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+            return entries;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactAll(int cap, float factor, float minCount) {
+        long total = 0;
+        var it = neighbors.entrySet().iterator();
+        while (it.hasNext()) {
+            var e = it.next();
+            LongFloatHashMap m = prune(e.getValue(), cap, factor, minCount);
+            if (m.isEmpty()) {
+                it.remove();
+            } else {
+                e.setValue(m);
+                total += m.size();
+            }
+        }
+        entries = total;
+    }
+
+    // 공동 좋아요 수 상위 max-entries개를 남기는 최소값
+    private float keepThreshold() {
+        float[] all = new float[(int) entries];
+        int[] k = { 0 };
+        for (LongFloatHashMap m : neighbors.values()) {
+            m.forEach((id, count) -> all[k[0]++] = count);
+        }
+        Arrays.sort(all, 0, k[0]);
+        return all[(int) (k[0] - maxEntries)];
+    }
+
+    // factor를 곱한 뒤 minCount 미만을 버리고 상위 cap개만 남긴 새 맵
+    private static LongFloatHashMap prune(LongFloatHashMap m, int cap, float factor, float minCount) {
+        int n = m.size();
+        long[] ids = new long[n];
+        float[] counts = new float[n];
+        int[] k = { 0 };
+        m.forEach((id, count) -> {
+            float v = count * factor;
+            if (v >= minCount) {
+                ids[k[0]] = id;
+                counts[k[0]++] = v;
+            }
+        });
+        int kept = k[0];
+        float threshold = Float.NEGATIVE_INFINITY;
+        if (kept > cap) {
+            float[] sorted = Arrays.copyOf(counts, kept);
+            Arrays.sort(sorted);
+            threshold = sorted[kept - cap];
+        }
+        LongFloatHashMap out = new LongFloatHashMap(Math.min(kept, cap));
+        for (int i = 0; i < kept && out.size() < cap; i++) {
+            if (counts[i] >= threshold) {
+                out.put(ids[i], counts[i]);
+            }
+        }
+        return out;
+    }
+
+    /** 대략적인 메모리 사용량 (슬롯 배열 + 객체/맵 엔트리 오버헤드 추정) */
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (LongFloatHashMap m : neighbors.values()) {
+                bytes += 12L * m.capacity() + 96; // long+float 슬롯, 배열 헤더/맵 엔트리/Long 키
+            }
+            return bytes + userLikes.estimatedSize() * (8L * USER_HISTORY + 64);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long entries() {
+        lock.readLock().lock();
+        try {
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 유저의 최근 좋아요 (오래된 것부터, 가득 차면 가장 오래된 것을 밀어냄)
+    private static final class RecentLikes {
+        final long[] ids = new long[USER_HISTORY];
+        int size;
+
+        boolean contains(long feedId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == feedId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void add(long feedId) {
+            if (size == ids.length) {
+                System.arraycopy(ids, 1, ids, 0, size - 1);
+                size--;
+            }
+            ids[size++] = feedId;
+        }
+
+        boolean remove(long feedId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == feedId) {
+                    System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
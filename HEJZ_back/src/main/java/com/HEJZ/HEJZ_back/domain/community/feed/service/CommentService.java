@@ -4,16 +4,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.CommentCreateRequest;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.CommentDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.CommentPageResponse;
 import com.HEJZ.HEJZ_back.domain.community.feed.entity.CommentEntity;
 import com.HEJZ.HEJZ_back.domain.community.feed.entity.CommentLikeEntity;
 import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
-import com.HEJZ.HEJZ_back.domain.community.feed.repository.CommentLikeRepository;
 import com.HEJZ.HEJZ_back.domain.community.feed.repository.CommentRepository;
 import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer.Counter;
 import com.HEJZ.HEJZ_back.domain.community.user.entity.UserEntity;
 import com.HEJZ.HEJZ_back.domain.community.user.repository.UserRepository;
 import com.HEJZ.HEJZ_back.global.response.ApiResponse;
@@ -25,9 +27,12 @@ import lombok.AllArgsConstructor;
 public class CommentService {
 
     private final CommentRepository commentRepository;
-    private final CommentLikeRepository commentLikeRepository;
     private final UserRepository userRepository;
     private final FeedRepository feedRepository;
+    private final CounterBuffer counterBuffer;
+
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
 
     public ApiResponse<Object> createComment(CommentCreateRequest commentRequest, String username) {
 
@@ -55,6 +60,7 @@ public class CommentService {
             newComment.setUser(user);
 
             commentRepository.save(newComment);
+            counterBuffer.add(Counter.FEED_COMMENT, feed.getId(), +1);
 
             return new ApiResponse<Object>(200, newComment, "댓글 생성 완료");
 
@@ -63,45 +69,68 @@ public class CommentService {
         }
     }
 
+    /** 피드 댓글 (오래된 순, 키셋 페이지). 작성자는 fetch join, 좋아요 수는 비정규화 카운터 */
     @Transactional
-    public ApiResponse<Object> getFeedComments(Long feedId) {
+    public ApiResponse<Object> getFeedComments(Long feedId, String cursor, Integer limit) {
         try {
-            var comments = commentRepository.findByFeedId(feedId);
-            List<CommentDto> dto = comments.stream()
-                    .map(c -> new CommentDto(
-                            c.getId(),
-                            c.getComment(),
-                            c.getCreatedAt(),
-                            c.getUser().getId(),
-                            c.getUser().getUsername(),
-                            commentLikeRepository.countByComment_Id(c.getId())))
+            TimeIdCursor c = TimeIdCursor.parse(cursor);
+            int size = TimeIdCursor.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+            List<CommentEntity> rows = commentRepository.findFeedCommentsPage(feedId, c.createdAt(), c.id(),
+                    PageRequest.of(0, size + 1));
+
+            List<CommentDto> dto = rows.stream()
+                    .limit(size)
+                    .map(r -> toDto(r, r.getUser().getId(), r.getUser().getUsername()))
                     .toList();
 
-            return new ApiResponse<>(200, dto, "댓글 조회 성공");
+            return new ApiResponse<>(200, new CommentPageResponse(dto, nextCursor(rows, size)), "댓글 조회 성공");
         } catch (Exception e) {
             return new ApiResponse<>(500, null, "댓글 조회 실패");
         }
     }
 
-    public ApiResponse<Object> getMyComments(String username) {
+    /** 내 댓글 (최신 순, 키셋 페이지). 작성자가 나라서 유저 조인 없이 */
+    public ApiResponse<Object> getMyComments(String username, String cursor, Integer limit) {
         try {
-            var comments = commentRepository.findByUsernameWithUser(username);
-            List<CommentDto> dto = comments.stream()
-                    .map(c -> new CommentDto(
-                            c.getId(),
-                            c.getComment(),
-                            c.getCreatedAt(),
-                            c.getUser().getId(),
-                            c.getUser().getUsername(),
-                            commentLikeRepository.countByComment_Id(c.getId())))
+            Long userId = userRepository.findIdByUsername(username);
+            if (userId == null) {
+                return new ApiResponse<Object>(404, null, "유저를 찾을 수 없습니다.");
+            }
+            TimeIdCursor c = TimeIdCursor.parse(cursor);
+            int size = TimeIdCursor.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+            List<CommentEntity> rows = commentRepository.findMyCommentsPage(userId, c.createdAt(), c.id(),
+                    PageRequest.of(0, size + 1));
+
+            List<CommentDto> dto = rows.stream()
+                    .limit(size)
+                    .map(r -> toDto(r, userId, username))
                     .toList();
 
-            return new ApiResponse<>(200, dto, "내 댓글 조회 성공");
+            return new ApiResponse<>(200, new CommentPageResponse(dto, nextCursor(rows, size)), "내 댓글 조회 성공");
         } catch (Exception e) {
             return new ApiResponse<>(500, null, "내 댓글 조회 실패");
         }
     }
 
+    private CommentDto toDto(CommentEntity c, Long userId, String username) {
+        return new CommentDto(c.getId(), c.getComment(), c.getCreatedAt(), userId, username, likeCount(c));
+    }
+
+    // size+1개를 읽어 다음 페이지 유무를 판단 (count 쿼리 없음)
+    private String nextCursor(List<CommentEntity> rows, int size) {
+        if (rows.size() <= size) {
+            return null;
+        }
+        CommentEntity last = rows.get(size - 1);
+        return TimeIdCursor.format(last.getCreatedAt(), last.getId());
+    }
+
+    // DB 카운터 + 아직 반영 안 된 증분
+    private long likeCount(CommentEntity c) {
+        long stored = c.getLikeCount() == null ? 0 : c.getLikeCount();
+        return stored + counterBuffer.pending(Counter.COMMENT_LIKE, c.getId());
+    }
+
     @Transactional
     public ApiResponse<Object> deleteComment(Long commentId) {
         try {
@@ -109,7 +138,10 @@ public class CommentService {
                 return new ApiResponse<Object>(404, null, "댓글은 비울 수 없습니다.");
             }
 
-            commentRepository.deleteByCommentId(commentId);
+            Long feedId = commentRepository.findFeedIdById(commentId);
+            if (commentRepository.deleteByCommentId(commentId) > 0) {
+                counterBuffer.add(Counter.FEED_COMMENT, feedId, -1);
+            }
 
             return new ApiResponse<Object>(200, commentId, "댓글 삭제 성공");
 
@@ -0,0 +1,267 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.event.CountersFlushedEvent;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogOffsetStore;
+import com.HEJZ.HEJZ_back.global.eventlog.PendingOffsets;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요/댓글 카운터 write-behind 버퍼
+ *
+ * 요청 스레드는 id별 LongAdder에 더하기만 하고 (행 락 없음),
+ * 스케줄러가 주기적으로 모아서 "count = count + ?" 배치 UPDATE로 반영한다.
+ * 읽기는 DB 컬럼 값 + pending(아직 반영 안 된 증분)으로 본다.
+ *
+ * - 한 번의 flush는 한 트랜잭션 (일부만 반영되고 전부 되돌려 재시도하는 일이 없게)
+ * - flush 중인 증분은 커밋될 때까지 pending에 계속 보인다. (반영 중 카운트가 잠깐 줄어 보이지 않게)
+ * - 이벤트 로그 소비자가 넣은 증분(addLogged)은 소비자 오프셋을 같은 트랜잭션에 기록한다. (재전달 시 중복 반영 방지)
+ */
+@Slf4j
+@Component
+public class CounterBuffer {
+
+    public enum Counter {
+        // hot_score는 like_count 변경 전 값으로 log 공간 증분 (SET 순서 유지, NULL이면 백필이 계산)
+        FEED_LIKE("""
+                UPDATE feeds
+                SET hot_score = hot_score
+                        + LOG10(GREATEST(like_count + ?, 1))
+                        - LOG10(GREATEST(like_count, 1)),
+                    like_count = GREATEST(like_count + ?, 0)
+                WHERE id = ?
+                """, 2),
+        // NULL(백필 전)은 그대로 두고 백필이 원본 테이블에서 계산
+        FEED_COMMENT("UPDATE feeds SET comment_count = GREATEST(comment_count + ?, 0) WHERE id = ?", 1),
+        COMMENT_LIKE("UPDATE comments SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?", 1);
+
+        private final String sql;
+        private final int deltaParams; // ? 중 delta 개수 (마지막은 id)
+
+        Counter(String sql, int deltaParams) {
+            this.sql = sql;
+            this.deltaParams = deltaParams;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate tx;
+    private final EventLogOffsetStore offsetStore;
+
+    private final Stripe[] stripes = newStripes();
+    private final PendingOffsets offsets = new PendingOffsets();
+    // addLogged(읽기) ↔ flush의 떼어 내기(쓰기): 떼어 간 오프셋의 증분이 전부 같은 flush에 들어가게
+    private final ReadWriteLock drainLock = new ReentrantReadWriteLock();
+
+    public CounterBuffer(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager txManager, EventLogOffsetStore offsetStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.tx = new TransactionTemplate(txManager);
+        this.offsetStore = offsetStore;
+    }
+
+    private static Stripe[] newStripes() {
+        Stripe[] s = new Stripe[Counter.values().length];
+        for (int i = 0; i < s.length; i++) {
+            s[i] = new Stripe();
+        }
+        return s;
+    }
+
+    private static final class Stripe {
+        final ConcurrentHashMap<Long, LongAdder> live = new ConcurrentHashMap<>();
+        // 직전 flush에서 빼낸 어더. 참조를 쥔 채 늦게 더한 값을 다음 flush에서 회수
+        final List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+        // 빼냈지만 아직 커밋 안 된 증분 (flush 스레드만 교체)
+        volatile Map<Long, Long> inFlight = Map.of();
+    }
+
+    /** 증분 기록. 트랜잭션 안이면 커밋 후에만 반영 */
+    public void add(Counter counter, Long id, long delta) {
+        if (id == null || delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accumulate(counter, id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accumulate(counter, id, delta);
+            }
+        });
+    }
+
+    /**
+     * 이벤트 로그 소비자용. seq까지의 이벤트에서 나온 증분(id → delta)을 한 번에 넣는다.
+     * 이 증분을 반영하는 트랜잭션이 consumer의 오프셋도 seq로 기록한다.
+     */
+    public void addLogged(String consumer, long seq, Counter counter, Map<Long, Long> deltas) {
+        drainLock.readLock().lock();
+        try {
+            deltas.forEach((id, d) -> {
+                if (d != 0) {
+                    accumulate(counter, id, d);
+                }
+            });
+            offsets.advance(consumer, seq);
+        } finally {
+            drainLock.readLock().unlock();
+        }
+    }
+
+    /** 아직 DB에 반영되지 않은 증분 (flush 중인 것 포함) */
+    public long pending(Counter counter, Long id) {
+        Stripe stripe = stripes[counter.ordinal()];
+        // 어더 → in-flight 순서로 읽는다. flush는 in-flight에 먼저 넣고 어더에서 빼므로 잠깐 겹칠 수는 있어도 빠지지 않는다
+        LongAdder adder = stripe.live.get(id);
+        long live = adder == null ? 0 : adder.sum();
+        return live + stripe.inFlight.getOrDefault(id, 0L);
+    }
+
+    private void accumulate(Counter counter, Long id, long delta) {
+        stripes[counter.ordinal()].live.computeIfAbsent(id, k -> new LongAdder()).add(delta);
+    }
+
+    /** 쌓인 증분을 카운터별 배치 UPDATE로 한 트랜잭션에 반영. 반영한 행 수 */
+    public synchronized int flush() {
+        Map<String, Long> seqs;
+        Map<Counter, Map<Long, Long>> drained = new EnumMap<>(Counter.class);
+        drainLock.writeLock().lock();
+        try {
+            seqs = offsets.take();
+            for (Counter c : Counter.values()) {
+                Map<Long, Long> deltas = drain(c);
+                if (!deltas.isEmpty()) {
+                    drained.put(c, deltas);
+                }
+            }
+        } finally {
+            drainLock.writeLock().unlock();
+        }
+        if (drained.isEmpty() && seqs.isEmpty()) {
+            return 0;
+        }
+
+        Map<Counter, List<Object[]>> args = new EnumMap<>(Counter.class);
+        drained.forEach((counter, deltas) -> args.put(counter, toArgs(counter, deltas)));
+        int rows = args.values().stream().mapToInt(List::size).sum();
+
+        try {
+            tx.executeWithoutResult(status -> {
+                args.forEach((counter, batch) -> jdbcTemplate.batchUpdate(counter.sql, batch));
+                offsetStore.save(seqs);
+            });
+        } catch (DataAccessException e) {
+            // 전부 롤백됐으므로 증분과 오프셋을 버퍼로 되돌려 다음 주기에 재시도
+            log.warn("카운터 반영 실패 ({}건, {}): {}", rows, drained.keySet(), e.getMessage());
+            drained.forEach((counter, deltas) -> deltas.forEach((id, d) -> accumulate(counter, id, d)));
+            offsets.restore(seqs);
+            drained.keySet().forEach(c -> stripes[c.ordinal()].inFlight = Map.of());
+            return 0;
+        }
+        offsetStore.markApplied(seqs);
+        // 캐시 무효화가 끝난 뒤에 in-flight를 내려야 "옛 캐시 값 + pending 누락"이 보이지 않는다
+        try {
+            drained.forEach((counter, deltas) -> eventPublisher.publishEvent(new CountersFlushedEvent(counter, deltas)));
+        } finally {
+            drained.keySet().forEach(c -> stripes[c.ordinal()].inFlight = Map.of());
+        }
+        return rows;
+    }
+
+    // 카운터의 증분을 떼어 in-flight로 공개한다 (비었으면 in-flight도 비움)
+    private Map<Long, Long> drain(Counter counter) {
+        Stripe stripe = stripes[counter.ordinal()];
+        // 빼낸 증분. 어더에서 빼기 전에 여기 먼저 넣고 in-flight로 공개한다
+        Map<Long, Long> deltas = new ConcurrentHashMap<>();
+        stripe.inFlight = deltas;
+
+        for (Map.Entry<Long, LongAdder> e : stripe.retired) {
+            drainInto(e.getKey(), e.getValue(), deltas);
+        }
+        stripe.retired.clear();
+
+        for (Map.Entry<Long, LongAdder> e : stripe.live.entrySet()) {
+            if (drainInto(e.getKey(), e.getValue(), deltas)) {
+                continue;
+            }
+            if (stripe.live.remove(e.getKey(), e.getValue())) {
+                // 한 주기 동안 변화 없는 id는 맵에서 내림
+                stripe.retired.add(Map.entry(e.getKey(), e.getValue()));
+            }
+        }
+
+        if (deltas.isEmpty()) {
+            stripe.inFlight = Map.of();
+        }
+        return deltas;
+    }
+
+    private static List<Object[]> toArgs(Counter counter, Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, d) -> {
+            Object[] row = new Object[counter.deltaParams + 1];
+            for (int i = 0; i < counter.deltaParams; i++) {
+                row[i] = d;
+            }
+            row[counter.deltaParams] = id;
+            args.add(row);
+        });
+        return args;
+    }
+
+    // 어더의 현재 합을 deltas(in-flight)에 먼저 옮기고 어더에서 뺀다. 옮긴 게 있으면 true
+    private static boolean drainInto(Long id, LongAdder adder, Map<Long, Long> deltas) {
+        long d = adder.sum();
+        if (d == 0) {
+            return false;
+        }
+        deltas.merge(id, d, Long::sum);
+        adder.add(-d);
+        return true;
+    }
+
+    /** 컬럼 추가 이전 행(NULL)을 원본 테이블 COUNT로 채운다. 채운 행 수 */
+    public int backfillNulls() {
+        int rows = jdbcTemplate.update("""
+                UPDATE feeds f
+                SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.feed_id = f.id)
+                WHERE f.comment_count IS NULL
+                """);
+        rows += jdbcTemplate.update("""
+                UPDATE comments c
+                SET like_count = (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = c.id)
+                WHERE c.like_count IS NULL
+                """);
+        return rows;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int rows = flush();
+        log.info("종료 전 카운터 반영: {}건", rows);
+    }
+}
@@ -0,0 +1,118 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.ExplainRecord;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedScoreDebugDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 랭킹 설명(점수 상세) 비동기 수집기
+ *
+ * 요청 스레드는 락 없는 링 버퍼 슬롯에 CAS로 넣기만 하고 (가득 차면 버림),
+ * 백그라운드 스케줄러가 모아서 JSON lines 파일에 쓴다.
+ * 요청이 explain을 켰거나 sample-rate 확률에 걸린 페이지만 기록한다.
+ */
+@Slf4j
+@Component
+public class ExplainSink {
+
+    public static final int CAPACITY = 4096; // 2의 거듭제곱
+
+    private final AtomicReferenceArray<ExplainRecord> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong claim = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    private final ObjectMapper objectMapper;
+    private final double sampleRate;
+    private final Path path;
+
+    public ExplainSink(ObjectMapper objectMapper,
+            @Value("${feed.explain.sample-rate:0.01}") double sampleRate,
+            @Value("${feed.explain.path:./logs/feed-explain.jsonl}") String path) {
+        this.objectMapper = objectMapper;
+        this.sampleRate = sampleRate;
+        this.path = Path.of(path);
+    }
+
+    /** 이 요청을 기록할지 (명시 요청 또는 샘플링) */
+    public boolean shouldCapture(boolean requested) {
+        return requested || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /** 한 페이지의 점수 상세를 버퍼에 넣는다. 블로킹 없음 */
+    public void record(Long userId, String source, List<FeedScoreDebugDto> page) {
+        LocalDateTime at = LocalDateTime.now();
+        for (int i = 0; i < page.size(); i++) {
+            FeedScoreDebugDto f = page.get(i);
+            offer(new ExplainRecord(at, userId, source, i + 1, f.getFeedId(), f.getAuthorId(),
+                    f.getGenre(), f.getEmotion(), f.getAgeSeconds(), f.getTotalScore(), f.getBreakdown()));
+        }
+    }
+
+    private void offer(ExplainRecord r) {
+        int idx = (int) (claim.getAndIncrement() & (CAPACITY - 1));
+        if (!slots.compareAndSet(idx, null, r)) {
+            dropped.increment(); // 아직 안 빠진 슬롯 → 버퍼 가득
+        }
+    }
+
+    /** 쌓인 기록을 파일에 추가. 쓴 줄 수 */
+    public synchronized int drain() {
+        // 생산 위치 다음 슬롯부터 돌면 대체로 오래된 순
+        int start = (int) (claim.get() & (CAPACITY - 1));
+        List<ExplainRecord> batch = new ArrayList<>();
+        for (int i = 0; i < CAPACITY; i++) {
+            ExplainRecord r = slots.getAndSet((start + i) & (CAPACITY - 1), null);
+            if (r != null) {
+                batch.add(r);
+            }
+        }
+        long lost = dropped.sumThenReset();
+        if (lost > 0) {
+            log.warn("랭킹 설명 버퍼 가득 참: {}건 버림", lost);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter w = Files.newBufferedWriter(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ExplainRecord r : batch) {
+                    w.write(objectMapper.writeValueAsString(r));
+                    w.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("랭킹 설명 기록 실패 ({}건): {}", batch.size(), e.getMessage());
+            return 0;
+        }
+        return batch.size();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        drain();
+    }
+}
@@ -0,0 +1,73 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.time.Duration;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedItemDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.CountersFlushedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedDeletedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer.Counter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 피드 상세(FeedItemDto) read-through 캐시
+ * 같은 id의 동시 미스는 Caffeine이 한 번만 로드하고 나머지는 그 결과를 기다린다. (single-flight)
+ *
+ * 캐시 값의 좋아요/댓글 수는 DB 컬럼 기준이고, 읽을 때 아직 반영 안 된 증분(pending)을 얹는다.
+ * CounterBuffer가 반영(커밋)하면 해당 id를 비운다. 제자리에서 더하면 커밋 후에 로드된 값에 한 번 더 더해질 수 있다.
+ * (진행 중인 로드가 있으면 invalidate가 그 로드를 기다렸다가 지우므로, 다음 로드는 커밋된 값을 읽는다)
+ */
+@Service
+public class FeedDetailCache {
+
+    public static final int MAX_FEEDS = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final FeedHydrator feedHydrator;
+    private final Cache<Long, FeedItemDto> cache;
+
+    public FeedDetailCache(FeedHydrator feedHydrator) {
+        this.feedHydrator = feedHydrator;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_FEEDS)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+    }
+
+    /** 피드 상세. 없거나 삭제됐으면 null (캐시하지 않음) */
+    public FeedItemDto get(Long feedId) {
+        FeedItemDto stored = cache.get(feedId, id -> feedHydrator.loadStoredDetail(id).orElse(null));
+        return stored == null ? null : feedHydrator.withPendingCounts(stored);
+    }
+
+    public void invalidate(Long feedId) {
+        cache.invalidate(feedId);
+    }
+
+    @TransactionalEventListener
+    public void onFeedDeleted(FeedDeletedEvent e) {
+        invalidate(e.feedId());
+    }
+
+    @EventListener
+    public void onCountersFlushed(CountersFlushedEvent e) {
+        if (e.counter() == Counter.COMMENT_LIKE) {
+            return;
+        }
+        cache.invalidateAll(e.deltas().keySet());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
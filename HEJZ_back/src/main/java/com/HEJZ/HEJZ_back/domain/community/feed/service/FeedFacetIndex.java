@@ -0,0 +1,273 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedFacetCounts;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장르/감정 패싯 인덱스
+ * 태그 사전 id별로 피드 id 압축 비트맵(Roaring)을 들고 있고, 피드 작성/삭제 커밋 이벤트로 갱신한다.
+ * 필터된 후보 id와 패싯 개수는 비트맵 AND/카디널리티로만 구하고, DB는 하이드레이션에만 쓴다.
+ *
+ * 삭제는 live 비트맵에서만 지운다. 태그 비트맵의 지난 비트는 항상 live와 AND 하므로 결과에 나오지 않는다.
+ * 비트맵은 int 범위 id만 담으므로, 그보다 큰 id가 들어오면 인덱스를 끄고 DB 경로로 돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedFacetIndex {
+
+    private static final int WARM_UP_BATCH = 5000;
+
+    private final FeedRepository feedRepository;
+    private final TagDictionaryService tagDictionary;
+
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<Integer, RoaringBitmap> byGenre = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byEmotion = new HashMap<>();
+    private List<long[]> pending; // warm-up 중 들어온 변경 {feedId, genreId, emotionId, 1=작성/0=삭제}
+    private volatile boolean ready;
+    private volatile boolean overflowed; // int 범위를 넘는 id를 만남 → 더 이상 쓰지 않음
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 비삭제 피드 전체로 인덱스 채우기 (기동 시, id 키셋 배치). 읽는 동안 커밋된 작성/삭제는 적재 뒤에 반영한다. */
+    public void warmUp() {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                return; // 이미 적재 중
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long total;
+        int replayed;
+        try {
+            total = load();
+        } finally {
+            // 실패해도 모아 둔 이벤트는 반영하고 실시간 반영으로 돌아간다.
+            // 배치를 읽은 뒤 커밋된 삭제가 뒤늦은 put에 덮이지 않도록 마지막에 순서대로 다시 적용
+            lock.writeLock().lock();
+            try {
+                for (long[] op : pending) {
+                    if (op[3] == 1) {
+                        put(op[0], (int) op[1], (int) op[2]);
+                    } else if (fits(op[0])) {
+                        live.remove((int) op[0]);
+                    }
+                }
+                replayed = pending.size();
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        ready = true;
+        log.info("피드 패싯 인덱스 적재: {}건, 재적용 {}건, 태그 비트맵 genre={} emotion={}, 약 {}KB",
+                total, replayed, byGenre.size(), byEmotion.size(), sizeInBytes() / 1024);
+    }
+
+    // 피드 id 순서대로 배치 적재. 적재한 건수
+    private long load() {
+        long total = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = feedRepository.findFacetRows(afterId, PageRequest.of(0, WARM_UP_BATCH));
+            lock.writeLock().lock();
+            try {
+                for (Object[] r : rows) {
+                    put((Long) r[0],
+                            tagId(PrefDimension.GENRE, (Integer) r[1], (String) r[3]),
+                            tagId(PrefDimension.EMOTION, (Integer) r[2], (String) r[4]));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            total += rows.size();
+            if (rows.size() < WARM_UP_BATCH || overflowed) {
+                return total;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    /** 적재를 마쳤고 모든 id가 비트맵 범위 안일 때만 true (아니면 호출부는 DB 경로를 쓴다) */
+    public boolean isReady() {
+        return ready && !overflowed;
+    }
+
+    public void add(long feedId, int genreId, int emotionId) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(new long[] { feedId, genreId, emotionId, 1 });
+            } else {
+                put(feedId, genreId, emotionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long feedId) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(new long[] { feedId, 0, 0, 0 });
+            } else if (fits(feedId)) { // 범위 밖 id는 애초에 담기지 않았다
+                live.remove((int) feedId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터에 맞는 피드 id를 최신(id 내림차순)부터 limit개
+     *
+     * @param beforeId 이 id 미만만 (null이면 처음부터)
+     */
+    public long[] page(TagFilter filter, Long beforeId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (beforeId != null && beforeId <= 0) {
+                return new long[0];
+            }
+            RoaringBitmap matches = matching(filter);
+            long[] out = new long[limit];
+            int n = 0;
+            // 비트맵 범위를 넘는 커서는 범위 끝부터
+            long from = (beforeId == null || beforeId - 1 > Integer.MAX_VALUE) ? Integer.MAX_VALUE : beforeId - 1;
+            long next = matches.previousValue((int) from);
+            while (n < limit && next >= 0) {
+                out[n++] = next;
+                next = next == 0 ? -1 : matches.previousValue((int) next - 1);
+            }
+            return n == limit ? out : Arrays.copyOf(out, n);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 패싯별 피드 수 (개수 내림차순)
+     * 각 차원의 개수에는 다른 차원의 필터만 적용한다. (장르 목록은 선택한 감정 기준으로 센다)
+     */
+    public FeedFacetCounts counts(TagFilter filter) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap genreBase = intersect(live, union(byEmotion, filter.emotions()));
+            RoaringBitmap emotionBase = intersect(live, union(byGenre, filter.genres()));
+            return new FeedFacetCounts(countAll(byGenre, genreBase), countAll(byEmotion, emotionBase));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = live.getLongSizeInBytes();
+            for (RoaringBitmap b : byGenre.values()) {
+                bytes += b.getLongSizeInBytes();
+            }
+            for (RoaringBitmap b : byEmotion.values()) {
+                bytes += b.getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 락 안에서만 호출
+    private RoaringBitmap matching(TagFilter filter) {
+        RoaringBitmap result = intersect(live, union(byGenre, filter.genres()));
+        return intersect(result, union(byEmotion, filter.emotions()));
+    }
+
+    // 허용 id들의 비트맵 합집합. 조건 없음(null)이면 null
+    private static RoaringBitmap union(Map<Integer, RoaringBitmap> bitmaps, BitSet allowed) {
+        if (allowed == null) {
+            return null;
+        }
+        List<RoaringBitmap> parts = new ArrayList<>();
+        for (int id = allowed.nextSetBit(0); id >= 0; id = allowed.nextSetBit(id + 1)) {
+            RoaringBitmap b = bitmaps.get(id);
+            if (b != null) {
+                parts.add(b);
+            }
+        }
+        return parts.isEmpty() ? new RoaringBitmap() : FastAggregation.or(parts.iterator());
+    }
+
+    private static RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap other) {
+        return other == null ? base : RoaringBitmap.and(base, other);
+    }
+
+    private Map<String, Long> countAll(Map<Integer, RoaringBitmap> bitmaps, RoaringBitmap base) {
+        List<Map.Entry<String, Long>> counts = new ArrayList<>(bitmaps.size());
+        for (var e : bitmaps.entrySet()) {
+            long c = RoaringBitmap.andCardinality(e.getValue(), base);
+            String value = tagDictionary.valueOf(e.getKey());
+            if (c > 0 && value != null) {
+                counts.add(Map.entry(value, c));
+            }
+        }
+        counts.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+        Map<String, Long> out = new LinkedHashMap<>();
+        for (var e : counts) {
+            out.put(e.getKey(), e.getValue());
+        }
+        return out;
+    }
+
+    // 백필 전 행(id NULL)은 문자열로 사전 조회
+    private int tagId(PrefDimension dimension, Integer id, String value) {
+        return id != null ? id : tagDictionary.idOf(dimension, value);
+    }
+
+    private static boolean fits(long feedId) {
+        return feedId >= 0 && feedId <= Integer.MAX_VALUE;
+    }
+
+    // 쓰기 락 안에서만 호출
+    private void put(long feedId, int genreId, int emotionId) {
+        if (!fits(feedId)) {
+            // 커밋 이벤트 리스너 안이므로 던지지 않고 인덱스만 끈다
+            if (!overflowed) {
+                log.warn("피드 id {}가 패싯 비트맵 범위를 넘어 패싯 인덱스를 끄고 DB 경로로 전환", feedId);
+            }
+            overflowed = true;
+            return;
+        }
+        int ord = (int) feedId;
+        live.add(ord);
+        if (genreId != TagDictionaryService.UNKNOWN) {
+            byGenre.computeIfAbsent(genreId, k -> new RoaringBitmap()).add(ord);
+        }
+        if (emotionId != TagDictionaryService.UNKNOWN) {
+            byEmotion.computeIfAbsent(emotionId, k -> new RoaringBitmap()).add(ord);
+        }
+    }
+}
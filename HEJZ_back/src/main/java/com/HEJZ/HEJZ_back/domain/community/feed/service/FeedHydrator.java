@@ -0,0 +1,158 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedItemDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.MediaDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedMediaEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedMediaRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer.Counter;
+import com.HEJZ.HEJZ_back.domain.community.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 목록 → DTO 변환 시 미디어/작성자를 피드마다 lazy 로딩하지 않고
+ * 페이지 단위로 IN 쿼리 한 번씩만 날린다.
+ *
+ * 작성자 id는 FK 프록시에서 바로 읽으므로 users 조회가 필요 없다.
+ * 좋아요/댓글 수는 피드 컬럼 + CounterBuffer의 미반영 증분 (O(1))
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedHydrator {
+
+    private final FeedRepository feedRepository;
+    private final FeedMediaRepository feedMediaRepository;
+    private final UserRepository userRepository;
+    private final CounterBuffer counterBuffer;
+
+    /** id 순서대로 피드 DTO 조립 (피드 1회 + 미디어 1회). 없거나 삭제된 id는 건너뛴다. */
+    public List<FeedItemDto> loadItems(List<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, FeedEntity> byId = new HashMap<>();
+        // 목록 쿼리와 이 조회 사이에 삭제된 피드도 빠지도록 여기서도 isDeleted를 거른다 (FeedService.loadInOrder와 같은 쿼리)
+        for (FeedEntity f : feedRepository.findAllWithUserByIdIn(new LinkedHashSet<>(feedIds))) {
+            byId.put(f.getId(), f);
+        }
+
+        List<FeedEntity> ordered = new ArrayList<>(feedIds.size());
+        for (Long id : feedIds) {
+            FeedEntity f = byId.get(id);
+            if (f != null) {
+                ordered.add(f);
+            }
+        }
+        return toItems(ordered);
+    }
+
+    /** 이미 로드된 피드 목록을 DTO로 (미디어 1회) */
+    public List<FeedItemDto> toItems(List<FeedEntity> feeds) {
+        return toItems(feeds, true);
+    }
+
+    /**
+     * 상세 캐시용: 삭제되지 않은 피드 하나를 DB 컬럼 카운트만으로 조립 (미반영 증분 제외)
+     * 미반영 증분은 읽을 때 withPendingCounts로 더한다.
+     */
+    public Optional<FeedItemDto> loadStoredDetail(Long feedId) {
+        return feedRepository.findById(feedId)
+                .filter(f -> !f.isDeleted())
+                .map(f -> toItems(List.of(f), false).get(0));
+    }
+
+    /** DB 컬럼 카운트에 아직 반영 안 된 증분을 더한 DTO */
+    public FeedItemDto withPendingCounts(FeedItemDto stored) {
+        long likes = counterBuffer.pending(Counter.FEED_LIKE, stored.id());
+        long comments = counterBuffer.pending(Counter.FEED_COMMENT, stored.id());
+        if (likes == 0 && comments == 0) {
+            return stored;
+        }
+        return withCounts(stored, stored.likeCount() + likes, stored.commentCount() + comments);
+    }
+
+    public static FeedItemDto withCounts(FeedItemDto d, long likeCount, long commentCount) {
+        return new FeedItemDto(d.id(), d.userId(), d.content(), d.media(), d.emotion(), d.genre(), d.createdAt(),
+                likeCount, commentCount);
+    }
+
+    /** 미디어를 이미 로드한 경우 (쿼리 없음) */
+    public List<FeedItemDto> toItems(List<FeedEntity> feeds, Map<Long, List<MediaDto>> media) {
+        return toItems(feeds, media, true);
+    }
+
+    private List<FeedItemDto> toItems(List<FeedEntity> feeds, boolean withPending) {
+        if (feeds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return toItems(feeds, loadMedia(feeds.stream().map(FeedEntity::getId).toList()), withPending);
+    }
+
+    private List<FeedItemDto> toItems(List<FeedEntity> feeds, Map<Long, List<MediaDto>> media,
+            boolean withPending) {
+
+        List<FeedItemDto> items = new ArrayList<>(feeds.size());
+        for (FeedEntity f : feeds) {
+            items.add(new FeedItemDto(
+                    f.getId(),
+                    f.getUser().getId(),
+                    f.getContent(),
+                    media.getOrDefault(f.getId(), List.of()),
+                    f.getEmotion(),
+                    f.getGenre(),
+                    f.getCreatedAt(),
+                    f.getLikeCount() + (withPending ? counterBuffer.pending(Counter.FEED_LIKE, f.getId()) : 0),
+                    nz(f.getCommentCount())
+                            + (withPending ? counterBuffer.pending(Counter.FEED_COMMENT, f.getId()) : 0)));
+        }
+        return items;
+    }
+
+    /** 피드 id → 미디어 목록 (ord 순) */
+    public Map<Long, List<MediaDto>> loadMedia(Collection<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, List<MediaDto>> result = new HashMap<>();
+        for (FeedMediaEntity m : feedMediaRepository.findAllByFeedIdIn(feedIds)) {
+            result.computeIfAbsent(m.getFeed().getId(), k -> new ArrayList<>())
+                    .add(new MediaDto(
+                            m.getUrl(),
+                            m.getOrd(),
+                            m.getType(),
+                            m.getThumbnailUrl(),
+                            m.getDurationMs(),
+                            m.getMimeType()));
+        }
+        return result;
+    }
+
+    /** 유저 id → username */
+    public Map<Long, String> loadAuthorNames(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, String> result = new HashMap<>();
+        for (Object[] row : userRepository.findUsernamesByIdIn(new LinkedHashSet<>(userIds))) {
+            result.put((Long) row[0], (String) row[1]);
+        }
+        return result;
+    }
+
+    private static long nz(Long v) {
+        return v == null ? 0 : v;
+    }
+}
@@ -0,0 +1,166 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedScoreDebugDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.MediaDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefScores;
+import com.HEJZ.HEJZ_back.global.util.BoundedTopK;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 재랭크 엔진
+ * 후보는 primitive 점수로만 계산해 고정 크기 힙에 넣고, 최종 페이지에 대해서만 DTO를 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedRanker {
+
+    private final TagDictionaryService tagDictionary;
+
+    // 가중치 크기================
+    static final double W_AUTHOR = 1.0;
+    static final double W_GENRE = 0.7;
+    static final double W_EMOTION = 0.4;
+    static final double W_PREF = 0.7; // 취향 비중
+    static final double W_RECENCY = 1.0 - W_PREF; // 최신 비중
+    static final double RECENCY_TAU_SECONDS = 60 * 60 * 24; // 1일 감쇠
+    static final double FOLLOW_BOOST = 100.0; // 전역 피드에서 팔로잉 작성자 가산 (취향+최신성 합보다 커서 윈도우 안에서 먼저 나옴)
+    // ==========================
+
+    /** 팔로잉 가산이 없는 랭킹용 */
+    public static final long[] NO_FOLLOWEES = new long[0];
+
+    /** 요청 기준 시각 (초). 한 요청 안의 모든 후보가 같은 now로 채점되도록 한 번만 구한다. */
+    public long now() {
+        return LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /** 후보 하나의 총점. 객체를 만들지 않는다. */
+    public double score(FeedEntity feed, PrefScores prefs, long nowEpochSec) {
+        return score(feed.getUser().getId(),
+                FeedTags.genreId(feed, tagDictionary),
+                FeedTags.emotionId(feed, tagDictionary),
+                feed.getCreatedAt().toEpochSecond(ZoneOffset.UTC),
+                prefs, nowEpochSec);
+    }
+
+    /** 팔로잉 가산. followees는 오름차순 작성자 id (FollowGraph.followees) */
+    public static double followBoost(long authorId, long[] followees) {
+        return followees.length > 0 && Arrays.binarySearch(followees, authorId) >= 0 ? FOLLOW_BOOST : 0.0;
+    }
+
+    /** primitive 컬럼 후보용 (RecentFeedPool). 태그 id가 UNKNOWN이면 PrefKey.NONE → 0점 */
+    public double score(long authorId, int genreId, int emotionId, long createdAtEpochSec,
+            PrefScores prefs, long nowEpochSec) {
+        double prefScore = W_AUTHOR * prefs.get(PrefKey.of(PrefDimension.AUTHOR, authorId))
+                + W_GENRE * prefs.get(PrefKey.of(PrefDimension.GENRE, genreId))
+                + W_EMOTION * prefs.get(PrefKey.of(PrefDimension.EMOTION, emotionId));
+        long ageSeconds = nowEpochSec - createdAtEpochSec;
+        return W_PREF * prefScore + W_RECENCY * Math.exp(-ageSeconds / RECENCY_TAU_SECONDS);
+    }
+
+    /**
+     * createdAt이 oldestCreatedAt 이하인 어떤 피드도 넘을 수 없는 점수 상한.
+     * 취향 항은 유저 벡터의 차원별 최대값, 최신성 항은 해당 시각에서의 값으로 잡는다.
+     */
+    public double upperBoundOlderThan(PrefScores prefs, LocalDateTime oldestCreatedAt, long nowEpochSec) {
+        double maxPref = W_AUTHOR * prefs.maxOf(PrefDimension.AUTHOR)
+                + W_GENRE * prefs.maxOf(PrefDimension.GENRE)
+                + W_EMOTION * prefs.maxOf(PrefDimension.EMOTION);
+        long ageSeconds = Math.max(0, nowEpochSec - oldestCreatedAt.toEpochSecond(ZoneOffset.UTC));
+        return W_PREF * maxPref + W_RECENCY * Math.exp(-ageSeconds / RECENCY_TAU_SECONDS);
+    }
+
+    // 장르/감정 취향 점수. 사전에 없는 태그는 누구의 취향에도 없으므로 0
+    private double tagScore(PrefScores prefs, PrefDimension dimension, int id) {
+        return id == TagDictionaryService.UNKNOWN ? 0.0 : prefs.get(PrefKey.of(dimension, id));
+    }
+
+    /** 동점 처리용 시각 키 (createdAt desc) */
+    public static long timeKey(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + createdAt.getNano();
+    }
+
+    /** 후보 중 상위 limit개를 점수순으로 반환 (followees 작성자는 FOLLOW_BOOST 가산) */
+    public List<FeedEntity> topK(List<FeedEntity> feeds, PrefScores prefs, long[] followees, int limit,
+            long nowEpochSec) {
+        if (feeds.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        BoundedTopK<FeedEntity> heap = new BoundedTopK<>(Math.min(limit, feeds.size()));
+        for (int i = 0, n = feeds.size(); i < n; i++) {
+            FeedEntity f = feeds.get(i);
+            double score = score(f, prefs, nowEpochSec) + followBoost(f.getUser().getId(), followees);
+            heap.offer(score, timeKey(f.getCreatedAt()), f.getId(), f);
+        }
+        return heap.drainSorted();
+    }
+
+    /** 최종 페이지 항목의 점수 상세 DTO (미디어/작성자 이름은 FeedHydrator에서 일괄 로드한 값) */
+    public FeedScoreDebugDto explain(FeedEntity feed, PrefScores prefs, long[] followees, long nowEpochSec,
+            List<MediaDto> media, String authorName) {
+        // 작성자 점수
+        double authorScore = prefs.get(PrefKey.author(feed.getUser().getId()));
+        double authorWeighted = W_AUTHOR * authorScore;
+
+        // 장르 점수
+        double genreScore = tagScore(prefs, PrefDimension.GENRE, FeedTags.genreId(feed, tagDictionary));
+        double genreWeighted = W_GENRE * genreScore;
+
+        // 감정 점수
+        double emotionScore = tagScore(prefs, PrefDimension.EMOTION, FeedTags.emotionId(feed, tagDictionary));
+        double emotionWeighted = W_EMOTION * emotionScore;
+
+        // 선호도 총점
+        double prefScore = authorWeighted + genreWeighted + emotionWeighted;
+        double prefWeightedScore = W_PREF * prefScore;
+
+        // 최신성 점수
+        long ageSeconds = nowEpochSec - feed.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+        double recencyScore = Math.exp(-ageSeconds / RECENCY_TAU_SECONDS);
+        double recencyWeightedScore = W_RECENCY * recencyScore;
+
+        // 팔로잉 가산
+        double followBoost = followBoost(feed.getUser().getId(), followees);
+
+        // 최종 점수
+        double totalScore = prefWeightedScore + recencyWeightedScore + followBoost;
+
+        return FeedScoreDebugDto.builder()
+                .feedId(feed.getId())
+                .content(feed.getContent())
+                .media(media)
+                .authorId(feed.getUser().getId())
+                .authorName(authorName)
+                .genre(feed.getGenre())
+                .emotion(feed.getEmotion())
+                .createdAt(feed.getCreatedAt())
+                .ageSeconds(ageSeconds)
+                .totalScore(totalScore)
+                .breakdown(FeedScoreDebugDto.ScoreBreakdown.builder()
+                        .prefScore(prefScore)
+                        .prefWeightedScore(prefWeightedScore)
+                        .authorScore(authorScore)
+                        .authorWeighted(authorWeighted)
+                        .genreScore(genreScore)
+                        .genreWeighted(genreWeighted)
+                        .emotionScore(emotionScore)
+                        .emotionWeighted(emotionWeighted)
+                        .recencyScore(recencyScore)
+                        .recencyWeightedScore(recencyWeightedScore)
+                        .followBoost(followBoost)
+                        .build())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.HEJZ.HEJZ_back.domain.community.feed.service;
 
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedCreateRequest;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedFacetCounts;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedItemDto;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedListResponse;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedScoreDebugDto;
@@ -8,29 +9,46 @@ import com.HEJZ.HEJZ_back.domain.community.feed.dto.MediaDto;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.MediaType;
 import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
 import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedMediaEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.TimelineInboxEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedCreatedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedDeletedEvent;
 import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
-import com.HEJZ.HEJZ_back.domain.community.recommendation.repository.UserPrefScoreRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.RankingSessionService.Kind;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.RankingSessionService.Session;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.RankingSessionService.SessionCursor;
+import com.HEJZ.HEJZ_back.domain.community.follow.service.FollowGraph;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefEntry;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefScores;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefCacheService;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefTopKIndex;
 import com.HEJZ.HEJZ_back.domain.community.user.entity.UserEntity;
 import com.HEJZ.HEJZ_back.domain.community.user.repository.UserRepository;
 import com.HEJZ.HEJZ_back.domain.music.dto.SavedSongDTO;
 import com.HEJZ.HEJZ_back.domain.music.entity.SavedSong;
 import com.HEJZ.HEJZ_back.domain.music.repository.SavedSongRepository;
 import com.HEJZ.HEJZ_back.global.response.ApiResponse;
+import com.HEJZ.HEJZ_back.global.util.BoundedTopK;
+
+import jakarta.persistence.EntityManager;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,234 +61,203 @@ public class FeedService {
     private final FeedRepository feedRepository;
     private final UserRepository userRepository;
     private final SavedSongRepository songRepository;
-    private final UserPrefScoreRepository userPrefScoreRepository;
+    private final PrefCacheService prefCacheService;
+    private final TimelineInboxService timelineInboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FeedRanker feedRanker;
+    private final EntityManager em;
+    private final TagDictionaryService tagDictionary;
+    private final FeedHydrator feedHydrator;
+    private final RankingSessionService rankingSessions;
+    private final RecentFeedPool recentFeedPool;
+    private final FeedDetailCache feedDetailCache;
+    private final ExplainSink explainSink;
+    private final FeedFacetIndex facetIndex;
+    private final CoLikeIndex coLikeIndex;
+    private final FollowGraph followGraph;
+    private final PrefTopKIndex prefTopKIndex;
 
     private static final DateTimeFormatter CURSOR_FMT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
-    // 가중치 크기================
-    private static final int RERANK_WINDOW_MULTIPLIER = 3; // limit의 3배만 임시로 가져와 재랭크
-    private static final double W_AUTHOR = 1.0;
-    private static final double W_GENRE = 0.7;
-    private static final double W_EMOTION = 0.4;
-    private static final double W_PREF = 0.7; // 취향 비중
-    private static final double W_RECENCY = 1.0 - W_PREF; // 최신 비중
-    private static final double RECENCY_TAU_SECONDS = 60 * 60 * 24; // 1일 감쇠
-    // ==========================
+    private static final int SESSION_WINDOW = 200; // 랭킹 스냅샷 하나에 담는 후보 수
+    private static final int CO_LIKE_CANDIDATES = 50; // 타임라인 첫 윈도우에 더하는 공동 좋아요 후보 수
+    private static final int FAVORITE_AUTHORS = 10; // 타임라인 첫 윈도우 후보를 가져올 취향 상위 작성자 수
+    private static final int FAVORITE_AUTHOR_CANDIDATES = 50; // 그 작성자들의 최근 피드 후보 수
+    private static final int STREAM_BATCH_SIZE = 500; // 디버그 타임라인 스캔 배치 크기
+    private static final int DEBUG_DEFAULT_LIMIT = 20;
+    private static final int DEBUG_MAX_LIMIT = 1000;
+    // 가중치는 FeedRanker 참고
+
+    /**
+     * 원본 후보 윈도우
+     * feeds는 rankedPage에서 랭킹하고, rankedIds가 있으면 이미 랭킹된 것으로 그대로 쓴다. (최신 피드 풀)
+     * nextCursor는 다음 윈도우 원본 커서 (끝이면 null)
+     */
+    private record CandidateWindow(List<FeedEntity> feeds, long[] rankedIds, String nextCursor) {
+        static CandidateWindow of(List<FeedEntity> feeds, String nextCursor) {
+            return new CandidateWindow(feeds, null, nextCursor);
+        }
 
-    // =========================
-    // 가중치 적용
-    // =========================
-    // private double recencyScore(LocalDateTime createdAt) {
-    // double ageSec = java.time.Duration.between(createdAt,
-    // LocalDateTime.now()).getSeconds();
-    // return Math.exp(-ageSec / RECENCY_TAU_SECONDS);
-    // }
-
-    // private double computePrefScore(FeedEntity f, Map<String, Double> prefMap) {
-    // double author = prefMap.getOrDefault("author: " + f.getUser().getId(), 0.0);
-    // double genre = (f.getGenre() != null) ? prefMap.getOrDefault("genre: " +
-    // f.getGenre(), 0.0) : 0.0;
-    // double emo = (f.getEmotion() != null) ? prefMap.getOrDefault("emotion:" +
-    // f.getEmotion(), 0.0) : 0.0;
-    // return W_AUTHOR * author + W_GENRE * genre + W_EMOTION * emo;
-    // }
-
-    private Map<String, Double> loadPrefMap(Long userId, List<FeedEntity> feeds) {
-        Set<String> keys = new HashSet<>();
-        for (var f : feeds) {
-            keys.add("author:" + f.getUser().getId());
-            if (f.getGenre() != null)
-                keys.add("genre:" + f.getGenre());
-            if (f.getEmotion() != null)
-                keys.add("emotion:" + f.getEmotion());
-        }
-
-        var rows = userPrefScoreRepository.findAllByUserIdAndKeyIn(userId, keys);
-        Map<String, Double> map = new HashMap<>();
-        for (var r : rows)
-            map.put(r.getKey(), r.getScore());
-        return map;
+        static CandidateWindow ranked(long[] rankedIds, String nextCursor) {
+            return new CandidateWindow(List.of(), rankedIds, nextCursor);
+        }
     }
 
-    private FeedListResponse reRankAndBuild(List<FeedEntity> feeds, Long userId,
-            Integer limit) {
-        if (feeds.isEmpty()) {
-            return buildListResponse(Collections.emptyList());
-        }
-
-        Map<String, Double> prefMap = loadPrefMap(userId, feeds);
-
-        List<FeedScoreDebugDto> debugFeeds = feeds.stream()
-                .map(feed -> calculateScoreWithDebug(feed, prefMap))
-                .sorted((a, b) -> {
-                    // 기존 로직과 동일한 정렬
-                    if (!a.getTotalScore().equals(b.getTotalScore())) {
-                        return Double.compare(b.getTotalScore(), a.getTotalScore()); // desc
-                    }
-                    int t = b.getCreatedAt().compareTo(a.getCreatedAt()); // 최신 우선
-                    return (t != 0) ? t : Long.compare(b.getFeedId(), a.getFeedId());
-                })
-                .limit(limit != null ? limit : feeds.size())
-                .toList();
-
-        // 최종 limit만 반영
-        List<FeedScoreDebugDto> page = debugFeeds.size() > limit ? debugFeeds.subList(0, limit) : debugFeeds;
-        return buildListResponse(page);
+    @FunctionalInterface
+    private interface WindowLoader {
+        CandidateWindow load(String windowStart, PrefScores prefs, long[] followees, long now);
     }
 
-    private List<FeedScoreDebugDto> getTimeLine(Long userId, Integer limit) {
-        List<FeedEntity> feeds = feedRepository.findAllNotDeleted();
+    /**
+     * 랭킹 스냅샷 세션으로 페이지 응답
+     * 세션이 없으면 윈도우를 한 번 랭킹해 저장하고, 있으면 저장된 id 순서를 잘라 하이드레이션만 한다.
+     * 전역 피드는 팔로잉 작성자에 FOLLOW_BOOST를 더한다. (타임라인/내 피드는 후보가 이미 팔로잉/본인 글)
+     */
+    private FeedListResponse rankedPage(Long userId, Kind kind, TagFilter filter, int limit, String cursor,
+            boolean explain, WindowLoader loader) {
+        int size = clamp(limit, 1, 100);
+        SessionCursor c = rankingSessions.decode(cursor);
+
+        PrefScores prefs = prefCacheService.get(userId);
+        long[] followees = kind == Kind.GLOBAL ? followGraph.followees(userId) : FeedRanker.NO_FOLLOWEES;
+        long now = feedRanker.now();
+
+        Session session = rankingSessions.find(userId, kind, filter.key(), c);
+        List<FeedEntity> ranked = null;
+        if (session == null) {
+            // 첫 페이지 또는 만료된 세션: 같은 윈도우를 다시 랭킹
+            CandidateWindow w = loader.load(c.windowStart(), prefs, followees, now);
+            long[] ids = w.rankedIds();
+            if (ids == null) {
+                // 태그 필터는 사전 id 비트셋으로 (문자열 비교 없음)
+                List<FeedEntity> feeds = filter.isNone()
+                        ? w.feeds()
+                        : w.feeds().stream().filter(f -> filter.matches(f, tagDictionary)).toList();
+                ranked = feeds.isEmpty()
+                        ? List.of()
+                        : feedRanker.topK(feeds, prefs, followees, feeds.size(), now);
+                ids = ranked.stream().mapToLong(FeedEntity::getId).toArray();
+            }
+            session = rankingSessions.save(userId, kind, filter.key(), c.windowStart(), ids, w.nextCursor());
+        }
 
-        if (feeds.isEmpty()) {
-            return Collections.emptyList();
+        long[] ids = session.rankedIds();
+        int from = Math.min(c.offset(), ids.length);
+        int to = Math.min(from + size, ids.length);
+        List<FeedEntity> page = (ranked != null)
+                ? ranked.subList(from, to)
+                : loadInOrder(ids, from, to);
+
+        String nextCursor = null;
+        if (to < ids.length) {
+            nextCursor = rankingSessions.encode(new SessionCursor(session.id(), to, session.windowStart()));
+        } else if (session.nextWindowCursor() != null) {
+            nextCursor = rankingSessions.encode(new SessionCursor(null, 0, session.nextWindowCursor()));
+        }
+        // 기본 응답은 가벼운 아이템만. 점수 상세는 요청(explain)이나 샘플링에 걸린 페이지만 계산
+        Map<Long, List<MediaDto>> media = feedHydrator.loadMedia(page.stream().map(FeedEntity::getId).toList());
+        List<FeedItemDto> items = feedHydrator.toItems(page, media);
+
+        List<FeedScoreDebugDto> explained = null;
+        boolean capture = explainSink.shouldCapture(explain);
+        if (explain || capture) {
+            explained = explainPage(page, prefs, followees, now, media);
+            if (capture) {
+                explainSink.record(userId, kind.name(), explained);
+            }
         }
+        return new FeedListResponse(items, explain ? explained : null, nextCursor);
+    }
 
-        // 선호도 맵 로드
-        Map<String, Double> prefMap = loadPrefMap(userId, feeds);
-
-        // 점수 계산 및 DTO 변환
-        List<FeedScoreDebugDto> scoredFeeds = feeds.stream()
-                .map(feed -> calculateScoreWithDebug(feed, prefMap))
-                .sorted((a, b) -> {
-                    // 기존 로직과 동일한 정렬
-                    if (!a.getTotalScore().equals(b.getTotalScore())) {
-                        return Double.compare(b.getTotalScore(), a.getTotalScore()); // desc
-                    }
-                    int t = b.getCreatedAt().compareTo(a.getCreatedAt()); // 최신 우선
-                    return (t != 0) ? t : Long.compare(b.getFeedId(), a.getFeedId());
-                })
-                .limit(limit != null ? limit : feeds.size())
-                .toList();
-
-        return scoredFeeds;
+    // 스냅샷 구간의 피드를 스냅샷 순서대로 (그 사이 삭제된 피드는 빠짐)
+    private List<FeedEntity> loadInOrder(long[] ids, int from, int to) {
+        if (from >= to) {
+            return List.of();
+        }
+        List<Long> slice = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            slice.add(ids[i]);
+        }
+        Map<Long, FeedEntity> byId = new HashMap<>();
+        for (FeedEntity f : feedRepository.findAllWithUserByIdIn(slice)) {
+            byId.put(f.getId(), f);
+        }
+        List<FeedEntity> page = new ArrayList<>(slice.size());
+        for (Long id : slice) {
+            FeedEntity f = byId.get(id);
+            if (f != null) {
+                page.add(f);
+            }
+        }
+        return page;
     }
 
-    public List<FeedScoreDebugDto> getTimelineFeedsWithScores(Long userId, Integer limit) {
-        // 피드 조회 (기존 로직)
-        List<FeedScoreDebugDto> debugFeeds = getTimeLine(userId, limit);
+    // 점수 상세 DTO: 미디어/작성자 이름은 페이지 단위 IN 쿼리 한 번씩 (미디어는 이미 있으면 재사용)
+    private List<FeedScoreDebugDto> explainPage(List<FeedEntity> top, PrefScores prefs, long[] followees, long now,
+            Map<Long, List<MediaDto>> media) {
+        if (top.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (media == null) {
+            media = feedHydrator.loadMedia(top.stream().map(FeedEntity::getId).toList());
+        }
+        Map<Long, String> authorNames = feedHydrator.loadAuthorNames(
+                top.stream().map(f -> f.getUser().getId()).toList());
+
+        List<FeedScoreDebugDto> page = new ArrayList<>(top.size());
+        for (FeedEntity f : top) {
+            page.add(feedRanker.explain(f, prefs, followees, now,
+                    media.getOrDefault(f.getId(), List.of()),
+                    authorNames.get(f.getUser().getId())));
+        }
+        return page;
+    }
 
-        // 콘솔에 출력
-        printScoreDebug(debugFeeds, userId);
+    private List<FeedScoreDebugDto> getTimeLine(Long userId, Integer limit) {
+        int k = clamp(limit != null ? limit : DEBUG_DEFAULT_LIMIT, 1, DEBUG_MAX_LIMIT);
+
+        // 선호도는 유저 전체 벡터 (조기 종료 상한 계산에 최대값이 필요)
+        PrefScores prefs = prefCacheService.get(userId);
+        long now = feedRanker.now();
+
+        // 최신순 키셋 배치로 훑으면서 상위 k개만 힙에 유지
+        BoundedTopK<FeedEntity> heap = new BoundedTopK<>(k);
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        while (true) {
+            List<FeedEntity> batch = feedRepository.findNotDeletedBatch(
+                    cursorCreatedAt, cursorId, PageRequest.of(0, STREAM_BATCH_SIZE));
+            for (FeedEntity f : batch) {
+                heap.offer(feedRanker.score(f, prefs, now), FeedRanker.timeKey(f.getCreatedAt()), f.getId(), f);
+            }
+            // 힙에 남은 피드는 작성자까지 로드된 상태라 detach 돼도 DTO 변환 가능
+            em.clear();
 
-        return debugFeeds;
-    }
+            if (batch.size() < STREAM_BATCH_SIZE) {
+                break;
+            }
+            FeedEntity last = batch.get(batch.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorId = last.getId();
+
+            // 이후 피드는 더 오래됐으므로 최신성 항이 더 작다 → 상한이 K번째 점수보다 낮으면 종료
+            if (heap.isFull()
+                    && feedRanker.upperBoundOlderThan(prefs, cursorCreatedAt, now) < heap.minScore()) {
+                break;
+            }
+        }
 
-    private FeedScoreDebugDto calculateScoreWithDebug(
-            FeedEntity feed,
-            Map<String, Double> prefMap) {
-
-        // 작성자 점수
-        double authorScore = prefMap.getOrDefault("author:" + feed.getUser().getId(), 0.0);
-        double authorWeighted = W_AUTHOR * authorScore;
-
-        // 장르 점수
-        double genreScore = (feed.getGenre() != null)
-                ? prefMap.getOrDefault("genre:" + feed.getGenre(), 0.0)
-                : 0.0;
-        double genreWeighted = W_GENRE * genreScore;
-
-        // 감정 점수
-        double emotionScore = (feed.getEmotion() != null)
-                ? prefMap.getOrDefault("emotion:" + feed.getEmotion(), 0.0)
-                : 0.0;
-        double emotionWeighted = W_EMOTION * emotionScore;
-
-        // 선호도 총점
-        double prefScore = authorWeighted + genreWeighted + emotionWeighted;
-        double prefWeightedScore = W_PREF * prefScore;
-
-        // 최신성 점수
-        long ageSeconds = Duration.between(feed.getCreatedAt(), LocalDateTime.now()).getSeconds();
-        double recencyScore = Math.exp(-ageSeconds / RECENCY_TAU_SECONDS);
-        double recencyWeightedScore = W_RECENCY * recencyScore;
-
-        // 최종 점수
-        double totalScore = prefWeightedScore + recencyWeightedScore;
-
-        return FeedScoreDebugDto.builder()
-                .feedId(feed.getId())
-                .content(feed.getContent())
-                .authorId(feed.getUser().getId())
-                .authorName(feed.getUser().getUsername())
-                .genre(feed.getGenre())
-                .emotion(feed.getEmotion())
-                .createdAt(feed.getCreatedAt())
-                .ageSeconds(ageSeconds)
-                .totalScore(totalScore)
-                .breakdown(FeedScoreDebugDto.ScoreBreakdown.builder()
-                        .prefScore(prefScore)
-                        .prefWeightedScore(prefWeightedScore)
-                        .authorScore(authorScore)
-                        .authorWeighted(authorWeighted)
-                        .genreScore(genreScore)
-                        .genreWeighted(genreWeighted)
-                        .emotionScore(emotionScore)
-                        .emotionWeighted(emotionWeighted)
-                        .recencyScore(recencyScore)
-                        .recencyWeightedScore(recencyWeightedScore)
-                        .build())
-                .build();
+        return explainPage(heap.drainSorted(), prefs, FeedRanker.NO_FOLLOWEES, now, null);
     }
 
-    private void printScoreDebug(List<FeedScoreDebugDto> feeds, Long userId) {
-        System.out.println("\n" + "=".repeat(120));
-        System.out.println("📊 FEED RECOMMENDATION SCORES DEBUG - User ID: " + userId);
-        System.out.println("📌 Algorithm: W_PREF(0.7) × PrefScore + W_RECENCY(0.3) × RecencyScore");
-        System.out.println("📌 PrefScore = W_AUTHOR(1.0)×author + W_GENRE(0.7)×genre + W_EMOTION(0.4)×emotion");
-        System.out.println("=".repeat(120));
-
-        for (int i = 0; i < feeds.size(); i++) {
-            FeedScoreDebugDto feed = feeds.get(i);
-            FeedScoreDebugDto.ScoreBreakdown b = feed.getBreakdown();
-
-            String ageStr = formatAge(feed.getAgeSeconds());
-
-            System.out.printf("\n[순위 %d] Feed ID: %d | Author: %s (ID: %d)\n",
-                    i + 1, feed.getFeedId(), feed.getAuthorName(), feed.getAuthorId());
-            System.out.printf("         Content: %s\n",
-                    feed.getContent().length() > 70
-                            ? feed.getContent().substring(0, 67) + "..."
-                            : feed.getContent());
-            System.out.printf("         Genre: %-15s | Emotion: %-10s | Age: %s\n",
-                    feed.getGenre() != null ? feed.getGenre() : "null",
-                    feed.getEmotion() != null ? feed.getEmotion() : "null",
-                    ageStr);
-            System.out.println("         " + "-".repeat(100));
-            System.out.printf("         🎯 TOTAL SCORE: %.6f\n", feed.getTotalScore());
-            System.out.println("         " + "-".repeat(100));
-
-            // 선호도 점수 (70%)
-            System.out.printf("         📊 PREFERENCE (70%%) → %.6f × 0.7 = %.6f\n",
-                    b.getPrefScore(), b.getPrefWeightedScore());
-            System.out.printf("            ├─ Author   : %.4f × 1.0 = %.6f\n",
-                    b.getAuthorScore(), b.getAuthorWeighted());
-            System.out.printf("            ├─ Genre    : %.4f × 0.7 = %.6f\n",
-                    b.getGenreScore(), b.getGenreWeighted());
-            System.out.printf("            └─ Emotion  : %.4f × 0.4 = %.6f\n",
-                    b.getEmotionScore(), b.getEmotionWeighted());
-
-            // 최신성 점수 (30%)
-            System.out.printf("         ⏰ RECENCY (30%%)    → %.6f × 0.3 = %.6f\n",
-                    b.getRecencyScore(), b.getRecencyWeightedScore());
-            System.out.printf("            └─ Age: %d seconds (decay: e^(-age/86400))\n",
-                    feed.getAgeSeconds());
-        }
-
-        System.out.println("\n" + "=".repeat(120));
-        System.out.println("💡 TIP: 높은 점수 = 선호도 높음 + 최신 게시물");
-        System.out.println("=".repeat(120) + "\n");
-    }
+    @Transactional(readOnly = true)
+    public List<FeedScoreDebugDto> getTimelineFeedsWithScores(Long userId, Integer limit) {
+        List<FeedScoreDebugDto> debugFeeds = getTimeLine(userId, limit);
 
-    private String formatAge(long seconds) {
-        if (seconds < 60) {
-            return seconds + "초 전";
-        } else if (seconds < 3600) {
-            return (seconds / 60) + "분 전";
-        } else if (seconds < 86400) {
-            return (seconds / 3600) + "시간 전";
-        } else {
-            return (seconds / 86400) + "일 전";
-        }
+        // 점수 상세는 요청 스레드에서 출력하지 않고 비동기 수집기로
+        explainSink.record(userId, "TIMELINE_DEBUG", debugFeeds);
+
+        return debugFeeds;
     }
 
     // =========================
@@ -281,13 +268,20 @@ public class FeedService {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        // 랭킹/필터가 문자열 대신 id를 쓰도록 태그 사전 id를 함께 저장
+        int genreId = tagDictionary.getOrCreate(PrefDimension.GENRE, request.genre());
+        int emotionId = tagDictionary.getOrCreate(PrefDimension.EMOTION, request.emotion());
+
         FeedEntity feed = FeedEntity.builder()
                 .user(user)
                 .content(request.content())
                 .genre(request.genre())
                 .emotion(request.emotion())
+                .genreId(genreId == TagDictionaryService.UNKNOWN ? null : genreId)
+                .emotionId(emotionId == TagDictionaryService.UNKNOWN ? null : emotionId)
                 .createdAt(LocalDateTime.now())
                 .build();
+        feed.setHotScore(HotScore.of(0, feed.getCreatedAt()));
 
         List<FeedMediaEntity> media = new ArrayList<>();
 
@@ -320,89 +314,201 @@ public class FeedService {
 
         feed.setImages(media);
         FeedEntity saved = feedRepository.save(feed);
-        return toDto(saved);
+
+        // 커밋 후 팔로워 인박스로 fan-out
+        eventPublisher.publishEvent(new FeedCreatedEvent(saved.getId(), userId, saved.getCreatedAt(),
+                genreId, emotionId));
+        return feedHydrator.toItems(List.of(saved)).get(0);
     }
 
     // =========================
     // Read: My feeds (pagination)
     // =========================
     @Transactional(readOnly = true)
-    public FeedListResponse getMyFeeds(Long userId, int limit, String cursor) {
-        Cursor c = parseCursor(cursor);
-
-        int window = clamp(limit, 1, 100) * RERANK_WINDOW_MULTIPLIER;
-
-        List<FeedEntity> feeds = feedRepository.findMyFeeds(
-                userId,
-                c.createdAt(),
-                c.id(),
-                PageRequest.of(0, window));
-
-        return reRankAndBuild(feeds, userId, clamp(limit, 1, 100));
-
+    public FeedListResponse getMyFeeds(Long userId, int limit, String cursor, boolean explain) {
+        return rankedPage(userId, Kind.MY, TagFilter.NONE, limit, cursor, explain, (start, prefs, followees, now) -> {
+            Cursor c = parseCursor(start);
+            List<FeedEntity> feeds = feedRepository.findMyFeeds(
+                    userId,
+                    c.createdAt(),
+                    c.id(),
+                    PageRequest.of(0, SESSION_WINDOW));
+            String next = feeds.size() < SESSION_WINDOW ? null : toCursor(feeds.get(feeds.size() - 1));
+            return CandidateWindow.of(feeds, next);
+        });
     }
 
     // =========================
     // Read: Timeline 팔로워
     // =========================
     @Transactional(readOnly = true)
-    public FeedListResponse getTimelineFeeds(Long userId, int limit, String cursor) {
-        Cursor c = parseCursor(cursor);
+    public FeedListResponse getTimelineFeeds(Long userId, int limit, String cursor, boolean explain,
+            TagFilter filter) {
+        return rankedPage(userId, Kind.TIMELINE, filter, limit, cursor, explain, (start, prefs, followees, now) -> {
+            Cursor c = parseCursor(start);
+
+            // 1차: 내 인박스에서 키셋으로 최근순 윈도우
+            List<TimelineInboxEntity> entries = timelineInboxService.readPage(userId, c.createdAt(), c.id(),
+                    SESSION_WINDOW);
+            List<FeedEntity> feeds = new ArrayList<>();
+            if (!entries.isEmpty()) {
+                feeds.addAll(feedRepository.findAllWithUserByIdIn(
+                        entries.stream().map(TimelineInboxEntity::getFeedId).toList()));
+            }
+            // 첫 윈도우에는 팔로우 밖의 공동 좋아요/취향 상위 작성자 후보도 섞는다
+            if (start == null) {
+                addCoLiked(userId, feeds);
+                addFavoriteAuthors(userId, feeds);
+            }
+            if (feeds.isEmpty()) {
+                return CandidateWindow.of(List.of(), null);
+            }
+
+            // 2차: 취향 점수와 최신성 블렌딩 재정렬은 rankedPage에서
+            String next = null;
+            if (entries.size() == SESSION_WINDOW) {
+                TimelineInboxEntity last = entries.get(entries.size() - 1);
+                next = toCursor(last.getCreatedAt(), last.getFeedId());
+            }
+            return CandidateWindow.of(feeds, next);
+        });
+    }
 
-        // 1차: 기존 키셋으로 최근순 가져오되, 재랭크 윈도우만큼 더 가져오기
-        int window = clamp(limit, 1, 100) * RERANK_WINDOW_MULTIPLIER;
+    /**
+     * 공동 좋아요 인덱스 후보를 윈도우에 추가
+     * 내 인박스에 이미 있는 피드는 인박스 윈도우로만 나오게 빼서 다음 윈도우와 겹치지 않게 한다.
+     * 인박스에는 팔로잉의 피드만 들어가므로, 팔로잉이 쓴 후보가 있을 때만 인박스를 확인한다.
+     */
+    private void addCoLiked(Long userId, List<FeedEntity> window) {
+        long[] ids = coLikeIndex.candidatesFor(userId, CO_LIKE_CANDIDATES);
+        if (ids.length == 0) {
+            return;
+        }
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (long id : ids) {
+            candidates.add(id);
+        }
+        window.forEach(f -> candidates.remove(f.getId()));
+        if (candidates.isEmpty()) {
+            return;
+        }
 
-        List<FeedEntity> feeds = feedRepository.findTimelineFeeds(
-                userId,
-                c.createdAt(),
-                c.id(),
-                PageRequest.of(0, window));
+        long[] followees = followGraph.followees(userId);
+        List<FeedEntity> found = new ArrayList<>();
+        Set<Long> byFollowees = new LinkedHashSet<>();
+        for (FeedEntity f : feedRepository.findAllWithUserByIdIn(candidates)) {
+            Long authorId = f.getUser().getId();
+            if (authorId.equals(userId)) {
+                continue;
+            }
+            if (Arrays.binarySearch(followees, authorId) >= 0) {
+                byFollowees.add(f.getId());
+            }
+            found.add(f);
+        }
+        if (!byFollowees.isEmpty()) {
+            Set<Long> inInbox = new HashSet<>(timelineInboxService.containedIn(userId, byFollowees));
+            found.removeIf(f -> inInbox.contains(f.getId()));
+        }
+        window.addAll(found);
+    }
 
-        // 2차: 취향 점수와 최신성 블렌딩으로 재정렬 후 limit만큼 잘라서 응답
-        return reRankAndBuild(feeds, userId, clamp(limit, 1, 100));
+    /**
+     * 취향 상위 작성자(팔로우 밖)의 최근 피드를 윈도우에 추가
+     * 상위 작성자는 PrefTopKIndex에서 메모리로 읽는다. 팔로잉의 피드는 인박스 윈도우로 나오므로 빼서 겹치지 않게 한다.
+     */
+    private void addFavoriteAuthors(Long userId, List<FeedEntity> window) {
+        long[] followees = followGraph.followees(userId);
+        List<Long> authorIds = new ArrayList<>();
+        for (PrefEntry e : prefTopKIndex.topK(userId, PrefDimension.AUTHOR, FAVORITE_AUTHORS + followees.length)) {
+            if (e.score() <= 0 || authorIds.size() == FAVORITE_AUTHORS) {
+                break; // 점수순이라 이후는 더 낮다
+            }
+            long authorId = PrefKey.id(e.key());
+            if (authorId != userId && Arrays.binarySearch(followees, authorId) < 0) {
+                authorIds.add(authorId);
+            }
+        }
+        if (authorIds.isEmpty()) {
+            return;
+        }
+        Set<Long> seen = new HashSet<>();
+        window.forEach(f -> seen.add(f.getId()));
+        for (FeedEntity f : feedRepository.findRecentByAuthorIds(authorIds,
+                PageRequest.of(0, FAVORITE_AUTHOR_CANDIDATES))) {
+            if (seen.add(f.getId())) {
+                window.add(f);
+            }
+        }
     }
 
     // =========================
-    // Read: Global (everyone, latest)
+    // Read: Global (everyone, hot)
     // =========================
     @Transactional(readOnly = true)
-    public FeedListResponse getGlobalFeeds(Long userId, int limit, String cursor) {
-        Cursor c = parseCursor(cursor);
+    public FeedListResponse getGlobalFeeds(Long userId, int limit, String cursor, boolean explain,
+            TagFilter filter) {
+        return rankedPage(userId, Kind.GLOBAL, filter, limit, cursor, explain, (start, prefs, followees, now) -> {
+            // 태그 필터: 패싯 비트맵에서 최신순 후보 id만 뽑고 DB는 하이드레이션만
+            // (인덱스 적재 전에 시작한 페이지네이션은 기존 경로 커서로 이어감)
+            if (!filter.isNone() && facetIndex.isReady() && (start == null || start.startsWith("#"))) {
+                Long beforeId = (start == null) ? null : parseFacetCursor(start);
+                long[] ids = facetIndex.page(filter, beforeId, SESSION_WINDOW);
+                List<FeedEntity> feeds = ids.length == 0
+                        ? List.of()
+                        : feedRepository.findAllWithUserByIdIn(Arrays.stream(ids).boxed().toList());
+                String next = ids.length < SESSION_WINDOW ? null : "#" + ids[ids.length - 1];
+                return CandidateWindow.of(feeds, next);
+            }
+            if (start != null && start.startsWith("#")) {
+                // 패싯 인덱스가 도중에 꺼진 경우(id 범위 초과): 이 커서는 DB 경로로 이어갈 수 없으므로 여기서 끝
+                return CandidateWindow.of(List.of(), null);
+            }
 
-        int window = clamp(limit, 1, 100) * RERANK_WINDOW_MULTIPLIER;
+            // 첫 윈도우: 최신 피드 풀을 메모리에서 채점 (DB 조회 없음)
+            if (start == null && recentFeedPool.isReady()) {
+                RecentFeedPool.Ranked r = recentFeedPool.rank(prefs, followees, now, filter);
+                String next = r.horizonCreatedAt() == null
+                        ? null
+                        : "@" + toCursor(r.horizonCreatedAt(), r.horizonId());
+                return CandidateWindow.ranked(r.rankedIds(), next);
+            }
 
-        List<FeedEntity> feeds = feedRepository.findGlobalFeeds(
-                userId,
-                c.createdAt(),
-                c.id(),
-                PageRequest.of(0, window));
+            // 이후: hot_score 인덱스 범위 스캔 (풀이 다룬 horizon 이후 구간 제외)
+            GlobalCursor c = parseGlobalCursor(start);
+            List<FeedEntity> feeds = feedRepository.findGlobalFeeds(
+                    c.horizon().createdAt(),
+                    c.horizon().id(),
+                    c.hotScore(),
+                    c.id(),
+                    PageRequest.of(0, SESSION_WINDOW));
+            if (feeds.size() < SESSION_WINDOW) {
+                return CandidateWindow.of(feeds, null);
+            }
+            FeedEntity last = feeds.get(feeds.size() - 1);
+            // hot_score가 아직 백필 전(NULL)인 행은 인덱스 정렬상 맨 뒤라 여기서 끝난다
+            String next = last.getHotScore() == null
+                    ? null
+                    : last.getHotScore() + "_" + last.getId()
+                    + (c.horizon().createdAt() == null ? "" : "@" + toCursor(c.horizon().createdAt(), c.horizon().id()));
+            return CandidateWindow.of(feeds, next);
+        });
+    }
 
-        return reRankAndBuild(feeds, userId, clamp(limit, 1, 100));
+    // 장르/감정 패싯별 피드 수 (인덱스 적재 전이면 null)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FeedFacetCounts getFacetCounts(TagFilter filter) {
+        return facetIndex.isReady() ? facetIndex.counts(filter) : null;
     }
 
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 (미스 로드는 리포지토리 단위 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ApiResponse<Object> getFeed(Long feedId) {
         try {
-            FeedEntity feed = feedRepository.findById(feedId).orElseThrow(() -> new RuntimeException("피드를 찾지 못함."));
-
-            List<MediaDto> mediaDtos = feed.getImages().stream()
-                    .sorted(Comparator.comparingInt(FeedMediaEntity::getOrd))
-                    .map(m -> new MediaDto(
-                            m.getUrl(),
-                            m.getOrd(),
-                            m.getType(),
-                            m.getThumbnailUrl(),
-                            m.getDurationMs(),
-                            m.getMimeType()))
-                    .toList();
-
-            FeedItemDto dto = new FeedItemDto(
-                    feed.getId(),
-                    feed.getUser().getId(),
-                    feed.getContent(),
-                    mediaDtos,
-                    feed.getEmotion(),
-                    feed.getGenre(),
-                    feed.getCreatedAt());
+            FeedItemDto dto = feedDetailCache.get(feedId);
+            if (dto == null) {
+                throw new RuntimeException("피드를 찾지 못함.");
+            }
 
             return new ApiResponse<Object>(200, dto, "게시글 조회 성공");
         } catch (Exception e) {
@@ -421,44 +527,72 @@ public class FeedService {
             throw new RuntimeException("권한 없음");
         }
         feed.setDeleted(true);
+        eventPublisher.publishEvent(new FeedDeletedEvent(feedId, userId));
     }
 
     // =========================
-    // DTO mapping / Cursor utils
+    // hot_score 백필
     // =========================
-    public FeedItemDto toDto(FeedEntity feed) {
-        List<MediaDto> mediaDtos = feed.getImages().stream()
-                .sorted(Comparator.comparingInt(FeedMediaEntity::getOrd))
-                .map(m -> new MediaDto(
-                        m.getUrl(),
-                        m.getOrd(),
-                        m.getType(),
-                        m.getThumbnailUrl(),
-                        m.getDurationMs(),
-                        m.getMimeType()))
-                .toList();
-
-        return new FeedItemDto(
-                feed.getId(),
-                feed.getUser().getId(),
-                feed.getContent(),
-                mediaDtos,
-                feed.getEmotion(),
-                feed.getGenre(),
-                feed.getCreatedAt());
-    }
+    /**
+     * hot_score가 비어 있는 피드를 id 순으로 한 배치 채운다.
+     * 
+     * @return 처리한 마지막 id (더 없으면 null)
+     */
+    @Transactional
+    public Long backfillHotScoreBatch(Long afterId, int batchSize) {
+        List<FeedEntity> feeds = feedRepository.findMissingHotScore(afterId, PageRequest.of(0, batchSize));
+        if (feeds.isEmpty()) {
+            return null;
+        }
 
-    private String toCursor(FeedScoreDebugDto last) {
-        String ts = last.getCreatedAt().format(CURSOR_FMT); // yyyy-MM-ddTHH:mm:ss
-        return ts + "_" + last.getFeedId();
+        Map<Long, Long> likeCounts = new HashMap<>();
+        for (Object[] row : feedRepository.countLikesByFeedIds(feeds.stream().map(FeedEntity::getId).toList())) {
+            likeCounts.put((Long) row[0], (Long) row[1]);
+        }
+        for (FeedEntity f : feeds) {
+            long likes = likeCounts.getOrDefault(f.getId(), 0L);
+            f.setLikeCount(likes);
+            f.setHotScore(HotScore.of(likes, f.getCreatedAt()));
+        }
+        return feeds.get(feeds.size() - 1).getId();
     }
 
-    private FeedListResponse buildListResponse(List<FeedScoreDebugDto> feeds) {
-        String nextCursor = null;
-        if (!feeds.isEmpty()) {
-            nextCursor = toCursor(feeds.get(feeds.size() - 1));
+    // =========================
+    // 태그 id 백필
+    // =========================
+    /**
+     * genre_id/emotion_id가 비어 있는 피드를 값별 UPDATE 한 번씩으로 채운다.
+     *
+     * @return 갱신한 행 수
+     */
+    @Transactional
+    public int backfillTagIds() {
+        int updated = 0;
+        for (String genre : feedRepository.findUnmappedGenres()) {
+            int id = tagDictionary.getOrCreate(PrefDimension.GENRE, genre);
+            if (id != TagDictionaryService.UNKNOWN) {
+                updated += feedRepository.assignGenreId(genre, id);
+            }
         }
-        return new FeedListResponse(feeds, nextCursor);
+        for (String emotion : feedRepository.findUnmappedEmotions()) {
+            int id = tagDictionary.getOrCreate(PrefDimension.EMOTION, emotion);
+            if (id != TagDictionaryService.UNKNOWN) {
+                updated += feedRepository.assignEmotionId(emotion, id);
+            }
+        }
+        return updated;
+    }
+
+    // =========================
+    // DTO mapping / Cursor utils
+    // =========================
+    // 원본 키셋 커서: {createdAt}_{id}
+    private String toCursor(FeedEntity last) {
+        return toCursor(last.getCreatedAt(), last.getId());
+    }
+
+    private String toCursor(LocalDateTime createdAt, Long id) {
+        return createdAt.format(CURSOR_FMT) + "_" + id;
     }
 
     private record Cursor(LocalDateTime createdAt, Long id) {
@@ -468,11 +602,8 @@ public class FeedService {
         if (cursor != null && cursor.contains("_") && !"null".equalsIgnoreCase(cursor)) {
             String[] parts = cursor.split("_", 2);
             if (parts.length == 2) {
-                String ts = parts[0];
-                if (ts.length() > 19)
-                    ts = ts.substring(0, 19); // trim nanos if any
                 try {
-                    return new Cursor(LocalDateTime.parse(ts, CURSOR_FMT), Long.parseLong(parts[1]));
+                    return new Cursor(LocalDateTime.parse(parts[0], CURSOR_FMT), Long.parseLong(parts[1]));
                 } catch (Exception e) {
                     throw new RuntimeException("Invalid cursor: " + cursor, e);
                 }
@@ -481,6 +612,36 @@ public class FeedService {
         return new Cursor(null, null);
     }
 
+    private record GlobalCursor(Double hotScore, Long id, Cursor horizon) {
+    }
+
+    // 전역 피드 원본 커서: {hotScore}_{id}[@{horizonCreatedAt}_{horizonId}] (hot 부분은 비어 있을 수 있음)
+    private GlobalCursor parseGlobalCursor(String cursor) {
+        if (cursor == null || "null".equalsIgnoreCase(cursor)) {
+            return new GlobalCursor(null, null, new Cursor(null, null));
+        }
+        String[] parts = cursor.split("@", 2);
+        Cursor horizon = parts.length == 2 ? parseCursor(parts[1]) : new Cursor(null, null);
+        if (parts[0].isEmpty()) {
+            return new GlobalCursor(null, null, horizon);
+        }
+        String[] hot = parts[0].split("_", 2);
+        try {
+            return new GlobalCursor(Double.parseDouble(hot[0]), Long.parseLong(hot[1]), horizon);
+        } catch (Exception e) {
+            throw new RuntimeException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    // 패싯 윈도우 원본 커서: #{beforeId}
+    private Long parseFacetCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor.substring(1));
+        } catch (Exception e) {
+            throw new RuntimeException("Invalid cursor: " + cursor, e);
+        }
+    }
+
     private int clamp(int v, int lo, int hi) {
         return Math.max(lo, Math.min(hi, v));
     }
@@ -0,0 +1,24 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+
+/**
+ * 피드의 장르/감정 사전 id
+ * 저장된 id를 쓰고, 백필 전 행(NULL)만 문자열로 사전을 조회한다.
+ */
+public final class FeedTags {
+
+    private FeedTags() {
+    }
+
+    public static int genreId(FeedEntity feed, TagDictionaryService tagDictionary) {
+        Integer id = feed.getGenreId();
+        return id != null ? id : tagDictionary.idOf(PrefDimension.GENRE, feed.getGenre());
+    }
+
+    public static int emotionId(FeedEntity feed, TagDictionaryService tagDictionary) {
+        Integer id = feed.getEmotionId();
+        return id != null ? id : tagDictionary.idOf(PrefDimension.EMOTION, feed.getEmotion());
+    }
+}
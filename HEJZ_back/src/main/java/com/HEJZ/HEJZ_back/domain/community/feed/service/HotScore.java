@@ -0,0 +1,30 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 시간 독립 인기 점수 (Reddit hot 방식)
+ * hot = log10(max(likes, 1)) + (createdAt - EPOCH) / TAU
+ *
+ * 현재 시각이 들어가지 않으므로 컬럼에 저장하고 인덱스로 정렬할 수 있다.
+ * 좋아요가 10배가 되면 TAU초(12.5시간) 더 최신인 글과 같은 점수가 된다.
+ */
+public final class HotScore {
+
+    public static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    public static final double TAU_SECONDS = 45_000;
+
+    private static final long EPOCH_SECONDS = EPOCH.toEpochSecond(ZoneOffset.UTC);
+
+    private HotScore() {
+    }
+
+    public static double of(long likeCount, LocalDateTime createdAt) {
+        return Math.log10(Math.max(likeCount, 1)) + timeTerm(createdAt);
+    }
+
+    public static double timeTerm(LocalDateTime createdAt) {
+        return (createdAt.toEpochSecond(ZoneOffset.UTC) - EPOCH_SECONDS) / TAU_SECONDS;
+    }
+}
@@ -3,33 +3,39 @@ package com.HEJZ.HEJZ_back.domain.community.feed.service;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.CommentLikeRequest;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedItemDto;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedLikeRequest;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedListResponse;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.LikeListRequest;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.LikerDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.LikerPageResponse;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.LikeDto;
-import com.HEJZ.HEJZ_back.domain.community.feed.dto.MediaDto;
 import com.HEJZ.HEJZ_back.domain.community.feed.dto.TargetType;
-import com.HEJZ.HEJZ_back.domain.community.feed.entity.CommentEntity;
-import com.HEJZ.HEJZ_back.domain.community.feed.entity.CommentLikeEntity;
-import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
-import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedLikeEntity;
-import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedMediaEntity;
 import com.HEJZ.HEJZ_back.domain.community.feed.repository.CommentLikeRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.CommentRepository;
 import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedLikeRepository;
 import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
-import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefStoreService;
-import com.HEJZ.HEJZ_back.domain.community.user.entity.UserEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer.Counter;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedUnlikedEvent;
 import com.HEJZ.HEJZ_back.domain.community.user.repository.UserRepository;
 import com.HEJZ.HEJZ_back.global.response.ApiResponse;
 
-import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class LikeService {
 
@@ -37,63 +43,101 @@ public class LikeService {
     private final FeedLikeRepository feedLikeRepository;
     private final FeedRepository feedRepository;
     private final UserRepository userRepository;
-    private final EntityManager em;
-    private final PrefStoreService prefStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FeedHydrator feedHydrator;
+    private final CounterBuffer counterBuffer;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate tx;
+
+    private static final int MAX_STATE_IDS = 100; // 좋아요 상태 일괄 조회 최대 개수
+    private static final int DEFAULT_PAGE_SIZE = 20; // 좋아요 목록 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int LOCK_RETRIES = 1; // 토글 교착 시 재시도 횟수
+
+    public LikeService(CommentLikeRepository commentLikeRepository, FeedLikeRepository feedLikeRepository,
+            FeedRepository feedRepository, UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+            FeedHydrator feedHydrator, CounterBuffer counterBuffer, CommentRepository commentRepository,
+            PlatformTransactionManager txManager) {
+        this.commentLikeRepository = commentLikeRepository;
+        this.feedLikeRepository = feedLikeRepository;
+        this.feedRepository = feedRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.feedHydrator = feedHydrator;
+        this.counterBuffer = counterBuffer;
+        this.commentRepository = commentRepository;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    /**
+     * 좋아요 토글을 한 트랜잭션으로 실행. 교착으로 롤백되면 한 번 더 시도한다.
+     * 같은 (대상, 유저)의 동시 토글은 중복 키 공유 락 → DELETE 배타 락 순서라 서로 기다리다 MySQL이 한쪽을 롤백할 수 있다.
+     * 다시 시도하면 먼저 끝난 쪽의 결과를 보고 토글하므로 연타 두 번은 좋아요/취소 한 번씩이 된다.
+     */
+    private LikeDto toggleLike(TargetType target, Long targetId, String username) {
+        for (int attempt = 0;; attempt++) {
+            try {
+                return tx.execute(status -> createLike(target, targetId, username));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= LOCK_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
 
+    /**
+     * 좋아요 토글: 먼저 INSERT IGNORE(좋아요)하고, 넣은 행이 없을 때만 지운다(취소)
+     * 좋아요는 빈 자리에 넣기만 하므로 DELETE가 없는 키 범위에 거는 갭 락을 잡지 않는다.
+     * (target, user) 유니크 키가 있어서 연타/동시 요청에도 행이 하나뿐이고, 영향 행 수가 1일 때만 카운터/이벤트를 낸다.
+     */
     private LikeDto createLike(TargetType target, Long targetId, String username) {
 
-        UserEntity user = userRepository.findByUsername(username);
-        if (user == null) {
+        Long userId = userRepository.findIdByUsername(username);
+        if (userId == null) {
             return null;
         }
 
-        Long userId = user.getId();
-
         return switch (target) {
             case COMMENT -> {
-                // 이미 눌렀으면 토글(취소)
-                boolean exists = commentLikeRepository.existsByCommentIdAndUserId(targetId, user.getId());
-                if (exists) {
-                    commentLikeRepository.deleteByCommentIdAndUserId(targetId, user.getId());
-                    yield LikeDto.unliked(TargetType.COMMENT, targetId, username);
+                LocalDateTime now = LocalDateTime.now();
+                if (commentLikeRepository.insertIgnore(targetId, userId, now) > 0) {
+                    counterBuffer.add(Counter.COMMENT_LIKE, targetId, +1);
+                    yield LikeDto.liked(null, TargetType.COMMENT, targetId, username, now);
                 }
-                var likeEntity = new CommentLikeEntity();
-                likeEntity.setUser(user);
-                likeEntity.setComment(em.getReference(CommentEntity.class, targetId)); // 조회 없이 프록시만
-                var saved = commentLikeRepository.save(likeEntity);
-
-                yield LikeDto.liked(saved.getId(), TargetType.COMMENT, targetId, username, saved.getCreatedAt());
+                // 0행: 이미 좋아요 상태이거나 댓글이 없음 (INSERT IGNORE는 FK 위반도 0행으로 돌려준다)
+                if (commentLikeRepository.deleteByCommentIdAndUserId(targetId, userId) > 0) {
+                    counterBuffer.add(Counter.COMMENT_LIKE, targetId, -1);
+                } else if (!commentRepository.existsById(targetId)) {
+                    throw new RuntimeException("댓글을 찾지 못했습니다.");
+                }
+                // 지운 행도 없으면 동시 요청이 먼저 취소한 것 → 이미 취소 상태
+                yield LikeDto.unliked(TargetType.COMMENT, targetId, username);
             }
             case FEED -> {
-                boolean exists = feedLikeRepository.existsByFeedIdAndUserId(targetId, user.getId());
-                if (exists) {
-                    feedLikeRepository.deleteByFeedIdAndUserId(targetId, user.getId());
-                    yield LikeDto.unliked(TargetType.FEED, targetId, username);
+                LocalDateTime now = LocalDateTime.now();
+                if (feedLikeRepository.insertIgnore(targetId, userId, now) > 0) {
+                    // 좋아요 수(like_count, hot_score)와 취향 점수는 커밋 후 이벤트 로그 소비자가 반영
+                    eventPublisher.publishEvent(new FeedLikedEvent(userId, targetId));
+                    yield LikeDto.liked(null, TargetType.FEED, targetId, username, now);
                 }
-
-                FeedEntity feed = feedRepository.findById(targetId)
-                        .orElseThrow(() -> new RuntimeException("피드를 찾지 못했습니다."));
-
-                var likeEntity = new FeedLikeEntity();
-                likeEntity.setUser(user);
-                likeEntity.setFeed(em.getReference(FeedEntity.class, targetId));
-                var saved = feedLikeRepository.save(likeEntity);
-
-                // 피드에만 좋아요 알고리즘 적용
-                prefStore.add(userId, "author:" + feed.getUser().getId(), +1.0);
-                prefStore.add(userId, "genre:" + feed.getGenre(), +0.7);
-                prefStore.add(userId, "emotion:" + feed.getEmotion(), +0.4);
-
-                yield LikeDto.liked(saved.getId(), TargetType.FEED, targetId, username, saved.getCreatedAt());
+                if (feedLikeRepository.deleteByFeedIdAndUserId(targetId, userId) > 0) {
+                    eventPublisher.publishEvent(new FeedUnlikedEvent(userId, targetId));
+                } else if (!feedRepository.existsById(targetId)) {
+                    throw new RuntimeException("피드를 찾지 못했습니다.");
+                }
+                yield LikeDto.unliked(TargetType.FEED, targetId, username);
             }
         };
     }
 
+    // 재시도마다 새 트랜잭션을 쓰도록 바깥 트랜잭션 없이 실행
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public ApiResponse<Object> commentLike(CommentLikeRequest likeRequest, String username) {
 
         try {
 
-            var dto = createLike(TargetType.COMMENT, likeRequest.getCommentId(), username);
+            var dto = toggleLike(TargetType.COMMENT, likeRequest.getCommentId(), username);
 
             if (dto == null) {
                 return new ApiResponse<Object>(404, null, "피드 좋아요 실패");
@@ -107,11 +151,12 @@ public class LikeService {
         }
     }
 
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public ApiResponse<Object> feedLike(FeedLikeRequest likeRequest, String username) {
 
         try {
 
-            var dto = createLike(TargetType.FEED, likeRequest.feedId(), username);
+            var dto = toggleLike(TargetType.FEED, likeRequest.feedId(), username);
 
             if (dto == null) {
                 return new ApiResponse<Object>(404, null, "피드 좋아요 실패");
@@ -125,44 +170,22 @@ public class LikeService {
         }
     }
 
-    private List<FeedItemDto> getFeedDtos(List<FeedLikeEntity> likes) {
-
-        List<FeedItemDto> dtos = likes.stream()
-                .map(FeedLikeEntity::getFeed)
-                .map(f -> {
-                    List<MediaDto> media = f.getImages().stream()
-                            .sorted(Comparator.comparingInt(FeedMediaEntity::getOrd))
-                            .map(m -> new MediaDto(
-                                    m.getUrl(),
-                                    m.getOrd(),
-                                    m.getType(),
-                                    m.getThumbnailUrl(),
-                                    m.getDurationMs(),
-                                    m.getMimeType()))
-                            .toList();
-
-                    return new FeedItemDto(
-                            f.getId(),
-                            f.getUser().getId(),
-                            f.getContent(),
-                            media,
-                            f.getEmotion(),
-                            f.getGenre(),
-                            f.getCreatedAt());
-                })
-                .toList();
-
-        return dtos;
-    }
-
-    @Transactional
-    public ApiResponse<Object> getListOfLike(FeedLikeRequest likeRequest) {
+    /** 피드에 좋아요 누른 유저 (좋아요 최신 순, 키셋 페이지) */
+    public ApiResponse<Object> getListOfLike(LikeListRequest req) {
 
         try {
+            TimeIdCursor c = TimeIdCursor.parse(req.cursor());
+            int size = TimeIdCursor.pageSize(req.limit(), DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+            List<Object[]> rows = feedLikeRepository.findLikersPage(req.feedId(), c.createdAt(), c.id(),
+                    PageRequest.of(0, size + 1));
 
-            List<FeedLikeEntity> likes = feedLikeRepository.findByFeedId(likeRequest.feedId());
+            List<LikerDto> likers = rows.stream()
+                    .limit(size)
+                    .map(r -> new LikerDto((Long) r[2], (String) r[3], (LocalDateTime) r[1]))
+                    .toList();
 
-            return new ApiResponse<>(200, getFeedDtos(likes), "해당 피드/댓글의 좋아요 리스트 조회 성공");
+            return new ApiResponse<>(200, new LikerPageResponse(likers, nextCursor(rows, size)),
+                    "해당 피드/댓글의 좋아요 리스트 조회 성공");
 
         } catch (Exception e) {
             return new ApiResponse<>(500, null, "해당 피드/댓글의 좋아요 리스트 조회 실패");
@@ -170,15 +193,27 @@ public class LikeService {
         }
     }
 
-    @Transactional
-    public ApiResponse<Object> getMyListOfLike(String username) {
+    /** 내가 좋아요 한 피드 (좋아요 최신 순, 키셋 페이지). id만 읽고 페이지 분량만 일괄 하이드레이션 */
+    public ApiResponse<Object> getMyListOfLike(String username, String cursor, Integer limit) {
 
         try {
             Long id = userRepository.findIdByUsername(username);
+            if (id == null) {
+                return new ApiResponse<Object>(404, null, "유저를 찾을 수 없습니다.");
+            }
+            TimeIdCursor c = TimeIdCursor.parse(cursor);
+            int size = TimeIdCursor.pageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+            List<Object[]> rows = feedLikeRepository.findMyLikedFeedIds(id, c.createdAt(), c.id(),
+                    PageRequest.of(0, size + 1));
 
-            List<FeedLikeEntity> likes = feedLikeRepository.findByUserId(id);
+            List<Long> feedIds = rows.stream()
+                    .limit(size)
+                    .map(r -> (Long) r[2])
+                    .toList();
+            List<FeedItemDto> items = feedHydrator.loadItems(feedIds);
 
-            return new ApiResponse<>(200, getFeedDtos(likes), "내 좋아요 리스트 조회 성공");
+            return new ApiResponse<>(200, new FeedListResponse(items, null, nextCursor(rows, size)),
+                    "내 좋아요 리스트 조회 성공");
 
         } catch (Exception e) {
             return new ApiResponse<>(500, null, "내 좋아요 리스트 조회 실패");
@@ -186,6 +221,15 @@ public class LikeService {
         }
     }
 
+    // size+1개를 읽어 다음 페이지 유무 판단. 행은 (likeId, likedAt, ...)
+    private String nextCursor(List<Object[]> rows, int size) {
+        if (rows.size() <= size) {
+            return null;
+        }
+        Object[] last = rows.get(size - 1);
+        return TimeIdCursor.format((LocalDateTime) last[1], (Long) last[0]);
+    }
+
     public ApiResponse<Object> isLiked(Long feedId, String username) {
         try {
             Long userId = userRepository.findIdByUsername(username);
@@ -197,4 +241,26 @@ public class LikeService {
         }
     }
 
+    /** 피드 목록의 좋아요 상태를 한 번에 (feedId → liked, 요청 순서 유지) */
+    public ApiResponse<Object> getLikeStates(List<Long> feedIds, String username) {
+        try {
+            if (feedIds == null || feedIds.isEmpty()) {
+                return new ApiResponse<Object>(200, Map.of(), "좋아요 상태 조회 성공");
+            }
+            if (feedIds.size() > MAX_STATE_IDS) {
+                return new ApiResponse<Object>(400, null, "한 번에 최대 " + MAX_STATE_IDS + "개까지 조회할 수 있습니다.");
+            }
+            Long userId = userRepository.findIdByUsername(username);
+            Set<Long> liked = new HashSet<>(feedLikeRepository.findLikedFeedIds(userId, feedIds));
+
+            Map<Long, Boolean> states = new LinkedHashMap<>();
+            for (Long feedId : feedIds) {
+                states.put(feedId, liked.contains(feedId));
+            }
+            return new ApiResponse<Object>(200, states, "좋아요 상태 조회 성공");
+        } catch (Exception e) {
+            return new ApiResponse<Object>(500, null, "좋아요 상태 조회 실패");
+        }
+    }
+
 }
@@ -0,0 +1,96 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 재랭크 목록의 랭킹 스냅샷 세션
+ *
+ * 첫 페이지에서 후보 윈도우 전체를 한 번 랭킹해 id 순서를 저장하고,
+ * 이후 페이지는 스냅샷을 잘라서만 응답한다. (재조회/재점수 없음)
+ * 세션은 유저 + 목록 종류 + 태그 필터당 하나, 짧은 TTL.
+ *
+ * 커서(불투명): base64url("{sessionId}|{offset}|{windowStart}")
+ * windowStart는 이 스냅샷을 만든 원본 키셋 커서라, 세션이 만료돼도 같은 윈도우를 다시 랭킹해 이어간다.
+ */
+@Service
+public class RankingSessionService {
+
+    public static final int MAX_SESSIONS = 20_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    public enum Kind {
+        MY, TIMELINE, GLOBAL
+    }
+
+    /**
+     * @param rankedIds        랭킹 순 피드 id
+     * @param nextWindowCursor 다음 후보 윈도우의 원본 커서 (null이면 끝)
+     */
+    public record Session(String id, String windowStart, long[] rankedIds, String nextWindowCursor) {
+    }
+
+    public record SessionCursor(String sessionId, int offset, String windowStart) {
+        static final SessionCursor FIRST = new SessionCursor(null, 0, null);
+    }
+
+    private final Cache<String, Session> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_SESSIONS)
+            .expireAfterWrite(TTL)
+            .build();
+
+    /** 커서가 가리키는 세션. 만료/교체됐으면 null */
+    public Session find(Long userId, Kind kind, String filterKey, SessionCursor cursor) {
+        if (cursor.sessionId() == null) {
+            return null;
+        }
+        Session s = cache.getIfPresent(key(userId, kind, filterKey));
+        return (s != null && s.id().equals(cursor.sessionId())) ? s : null;
+    }
+
+    /** 새 스냅샷 저장 (같은 유저/종류/필터의 이전 세션은 교체) */
+    public Session save(Long userId, Kind kind, String filterKey, String windowStart, long[] rankedIds,
+            String nextWindowCursor) {
+        Session s = new Session(UUID.randomUUID().toString(), windowStart, rankedIds, nextWindowCursor);
+        cache.put(key(userId, kind, filterKey), s);
+        return s;
+    }
+
+    public String encode(SessionCursor cursor) {
+        String raw = (cursor.sessionId() == null ? "" : cursor.sessionId())
+                + "|" + cursor.offset()
+                + "|" + (cursor.windowStart() == null ? "" : cursor.windowStart());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public SessionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank() || "null".equalsIgnoreCase(cursor)) {
+            return SessionCursor.FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            return new SessionCursor(
+                    parts[0].isEmpty() ? null : parts[0],
+                    Integer.parseInt(parts[1]),
+                    parts[2].isEmpty() ? null : parts[2]);
+        } catch (Exception e) {
+            throw new RuntimeException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String key(Long userId, Kind kind, String filterKey) {
+        return userId + ":" + kind + (filterKey.isEmpty() ? "" : ":" + filterKey);
+    }
+}
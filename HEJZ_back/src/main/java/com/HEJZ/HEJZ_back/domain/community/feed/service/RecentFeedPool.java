@@ -0,0 +1,211 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefScores;
+import com.HEJZ.HEJZ_back.global.util.BoundedTopK;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전역 피드용 프로세스 공용 후보 풀
+ * 최신 CAPACITY개 비삭제 피드를 primitive 배열 링으로 들고 있고,
+ * 피드 작성/삭제 커밋 이벤트로 갱신한다. 요청마다 유저 취향으로 풀 전체를 채점한다.
+ *
+ * horizon: 풀에 남아 있는 가장 오래된 (createdAt, id). 이보다 새로운 피드는 모두 풀에 있으므로
+ * 풀을 다 보면 DB는 horizon 이전만 이어서 읽으면 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentFeedPool {
+
+    public static final int CAPACITY = 1000;
+
+    private final FeedRepository feedRepository;
+    private final TagDictionaryService tagDictionary;
+    private final FeedRanker feedRanker;
+
+    private final long[] feedIds = new long[CAPACITY];
+    private final long[] authorIds = new long[CAPACITY];
+    private final int[] genreIds = new int[CAPACITY];
+    private final int[] emotionIds = new int[CAPACITY];
+    private final long[] timeKeys = new long[CAPACITY]; // FeedRanker.timeKey (createdAt 나노초)
+    private final boolean[] live = new boolean[CAPACITY]; // false면 삭제된 자리
+    private int head; // 다음에 쓸 위치
+    private int count;
+    private boolean complete = true; // 밀려난 피드가 없으면 DB의 비삭제 피드 전부를 담고 있다
+    private List<long[]> pending; // warm-up 중 들어온 변경 {feedId, authorId, genreId, emotionId, timeKey, 1=작성/0=삭제}
+    private volatile boolean ready;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 풀 랭킹 결과
+     *
+     * @param rankedIds 점수순 피드 id
+     * @param horizon   DB에서 이어 읽을 기준 (complete면 null)
+     */
+    public record Ranked(long[] rankedIds, LocalDateTime horizonCreatedAt, Long horizonId) {
+    }
+
+    /** 최신 피드로 풀 채우기 (기동 시). 읽는 동안 커밋된 작성/삭제는 모아 뒀다가 적재 뒤에 반영한다. */
+    public void warmUp() {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                return; // 이미 적재 중
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<FeedEntity> newest = null;
+        int replayed;
+        try {
+            newest = feedRepository.findNotDeletedBatch(null, null, PageRequest.of(0, CAPACITY));
+        } finally {
+            // 실패해도 모아 둔 이벤트는 반영하고 실시간 반영으로 돌아간다 (ready는 그대로)
+            lock.writeLock().lock();
+            try {
+                if (newest != null) {
+                    head = 0;
+                    count = 0;
+                    complete = newest.size() < CAPACITY;
+                    // 오래된 것부터 넣어 링 순서를 작성 순서와 맞춤
+                    for (int i = newest.size() - 1; i >= 0; i--) {
+                        FeedEntity f = newest.get(i);
+                        put(f.getId(), f.getUser().getId(), FeedTags.genreId(f, tagDictionary),
+                                FeedTags.emotionId(f, tagDictionary), FeedRanker.timeKey(f.getCreatedAt()));
+                    }
+                    ready = true;
+                }
+                for (long[] op : pending) {
+                    if (op[5] == 0) {
+                        markDeleted(op[0]);
+                    } else if (indexOf(op[0]) < 0) { // 읽기 전에 커밋돼 이미 적재된 피드는 건너뜀
+                        put(op[0], op[1], (int) op[2], (int) op[3], op[4]);
+                    }
+                }
+                replayed = pending.size();
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("최신 피드 풀 적재: {}건, 재적용 {}건 (complete={})", newest.size(), replayed, complete);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void add(long feedId, long authorId, int genreId, int emotionId, LocalDateTime createdAt) {
+        long timeKey = FeedRanker.timeKey(createdAt);
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(new long[] { feedId, authorId, genreId, emotionId, timeKey, 1 });
+            } else {
+                put(feedId, authorId, genreId, emotionId, timeKey);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long feedId) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(new long[] { feedId, 0, 0, 0, 0, 0 });
+            } else {
+                markDeleted(feedId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 풀 전체를 유저 취향(+팔로잉 가산)으로 채점해 점수순 id 반환 (filter를 통과한 피드만) */
+    public Ranked rank(PrefScores prefs, long[] followees, long nowEpochSec, TagFilter filter) {
+        lock.readLock().lock();
+        try {
+            BoundedTopK<Void> heap = new BoundedTopK<>(Math.max(1, count));
+            long oldestKey = Long.MAX_VALUE;
+            long oldestId = Long.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                long key = timeKeys[i];
+                if (key < oldestKey || (key == oldestKey && feedIds[i] < oldestId)) {
+                    oldestKey = key;
+                    oldestId = feedIds[i];
+                }
+                if (!live[i] || !filter.matches(genreIds[i], emotionIds[i])) {
+                    continue;
+                }
+                double score = feedRanker.score(authorIds[i], genreIds[i], emotionIds[i],
+                        Math.floorDiv(key, 1_000_000_000L), prefs, nowEpochSec)
+                        + FeedRanker.followBoost(authorIds[i], followees);
+                heap.offer(score, key, feedIds[i], null);
+            }
+
+            if (complete || count == 0) {
+                return new Ranked(heap.drainSortedIds(), null, null);
+            }
+            LocalDateTime horizon = LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(oldestKey, 1_000_000_000L),
+                    (int) Math.floorMod(oldestKey, 1_000_000_000L),
+                    ZoneOffset.UTC);
+            return new Ranked(heap.drainSortedIds(), horizon, oldestId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // 쓰기 락 안에서만 호출. 가득 차면 가장 오래 전에 쓴 자리를 덮어쓴다.
+    private void put(long feedId, long authorId, int genreId, int emotionId, long timeKey) {
+        if (count == CAPACITY) {
+            complete = false;
+        } else {
+            count++;
+        }
+        feedIds[head] = feedId;
+        authorIds[head] = authorId;
+        genreIds[head] = genreId;
+        emotionIds[head] = emotionId;
+        timeKeys[head] = timeKey;
+        live[head] = true;
+        head = (head + 1) % CAPACITY;
+    }
+
+    // 쓰기 락 안에서만 호출
+    private void markDeleted(long feedId) {
+        int i = indexOf(feedId);
+        if (i >= 0) {
+            live[i] = false;
+        }
+    }
+
+    private int indexOf(long feedId) {
+        for (int i = 0; i < count; i++) {
+            if (feedIds[i] == feedId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
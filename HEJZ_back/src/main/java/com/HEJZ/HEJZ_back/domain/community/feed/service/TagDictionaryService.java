@@ -0,0 +1,103 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.TagDictionaryEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.TagDictionaryRepository;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장르/감정 태그 사전
+ * 전체 사전을 메모리에 올려 두고, 조회(idOf)는 DB 없이 맵만 본다.
+ */
+@Slf4j
+@Service
+public class TagDictionaryService {
+
+    public static final int UNKNOWN = -1;
+
+    private final TagDictionaryRepository repo;
+    private final TransactionTemplate requiresNew;
+
+    private final Map<String, Integer> genreIds = new ConcurrentHashMap<>();
+    private final Map<String, Integer> emotionIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> values = new ConcurrentHashMap<>();
+
+    public TagDictionaryService(TagDictionaryRepository repo, PlatformTransactionManager txManager) {
+        this.repo = repo;
+        this.requiresNew = new TransactionTemplate(txManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void load() {
+        for (TagDictionaryEntity t : repo.findAll()) {
+            register(t);
+        }
+        log.info("태그 사전 로딩 완료: genre={} emotion={}", genreIds.size(), emotionIds.size());
+    }
+
+    /** 사전 id, 없거나 null이면 UNKNOWN (DB 조회 없음) */
+    public int idOf(PrefDimension dimension, String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        Integer id = ids(dimension).get(value.trim());
+        return id != null ? id : UNKNOWN;
+    }
+
+    public String valueOf(int id) {
+        return values.get(id);
+    }
+
+    /**
+     * 사전 id, 없으면 등록.
+     * 호출 트랜잭션이 롤백돼도 메모리 사전과 DB가 어긋나지 않도록 별도 트랜잭션에서 등록한다.
+     */
+    public int getOrCreate(PrefDimension dimension, String value) {
+        if (value == null || value.isBlank()) {
+            return UNKNOWN;
+        }
+        String v = value.trim();
+        int id = idOf(dimension, v);
+        if (id != UNKNOWN) {
+            return id;
+        }
+        TagDictionaryEntity t;
+        try {
+            t = requiresNew.execute(s -> repo.findByDimensionAndValue(dimension, v)
+                    .orElseGet(() -> repo.saveAndFlush(TagDictionaryEntity.builder()
+                            .dimension(dimension)
+                            .value(v)
+                            .build())));
+        } catch (DataIntegrityViolationException ex) {
+            // 다른 노드/스레드가 먼저 등록
+            t = requiresNew.execute(s -> repo.findByDimensionAndValue(dimension, v).orElseThrow());
+        }
+        register(t);
+        return t.getId();
+    }
+
+    private void register(TagDictionaryEntity t) {
+        ids(t.getDimension()).put(t.getValue(), t.getId());
+        values.put(t.getId(), t.getValue());
+    }
+
+    private Map<String, Integer> ids(PrefDimension dimension) {
+        return switch (dimension) {
+            case GENRE -> genreIds;
+            case EMOTION -> emotionIds;
+            default -> throw new IllegalArgumentException("태그 차원이 아님: " + dimension);
+        };
+    }
+}
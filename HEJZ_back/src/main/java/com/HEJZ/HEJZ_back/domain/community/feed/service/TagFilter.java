@@ -0,0 +1,83 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+
+/**
+ * 장르/감정 필터 (태그 사전 id 비트셋)
+ * 차원별로 비어 있으면 조건 없음. 사전에 없는 값만 요청했으면 아무것도 통과하지 않는다.
+ */
+public final class TagFilter {
+
+    public static final TagFilter NONE = new TagFilter(null, null, "");
+
+    private final BitSet genres; // null이면 조건 없음
+    private final BitSet emotions;
+    private final String key; // 랭킹 세션 구분용
+
+    private TagFilter(BitSet genres, BitSet emotions, String key) {
+        this.genres = genres;
+        this.emotions = emotions;
+        this.key = key;
+    }
+
+    public static TagFilter of(Collection<String> genres, Collection<String> emotions,
+            TagDictionaryService tagDictionary) {
+        BitSet g = toBits(PrefDimension.GENRE, genres, tagDictionary);
+        BitSet e = toBits(PrefDimension.EMOTION, emotions, tagDictionary);
+        if (g == null && e == null) {
+            return NONE;
+        }
+        return new TagFilter(g, e, "g" + (g == null ? "*" : g) + "e" + (e == null ? "*" : e));
+    }
+
+    public boolean isNone() {
+        return genres == null && emotions == null;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    // 패싯 인덱스용 (null이면 조건 없음, 읽기 전용으로만 쓸 것)
+    BitSet genres() {
+        return genres;
+    }
+
+    BitSet emotions() {
+        return emotions;
+    }
+
+    public boolean matches(int genreId, int emotionId) {
+        return matches(genres, genreId) && matches(emotions, emotionId);
+    }
+
+    // 백필 전 행(id NULL)은 문자열로 사전 조회
+    public boolean matches(FeedEntity feed, TagDictionaryService tagDictionary) {
+        return isNone() || matches(
+                FeedTags.genreId(feed, tagDictionary),
+                FeedTags.emotionId(feed, tagDictionary));
+    }
+
+    private static boolean matches(BitSet allowed, int id) {
+        return allowed == null || (id >= 0 && allowed.get(id));
+    }
+
+    private static BitSet toBits(PrefDimension dimension, Collection<String> values,
+            TagDictionaryService tagDictionary) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        BitSet bits = new BitSet();
+        for (String v : values) {
+            int id = tagDictionary.idOf(dimension, v);
+            if (id != TagDictionaryService.UNKNOWN) {
+                bits.set(id);
+            }
+        }
+        return bits;
+    }
+}
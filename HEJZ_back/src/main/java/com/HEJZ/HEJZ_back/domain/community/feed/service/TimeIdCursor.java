@@ -0,0 +1,35 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * (createdAt, id) 키셋 커서. 문자열 형식은 피드 타임라인 커서와 같은 "{ISO 시각}_{id}"
+ * 비어 있으면 첫 페이지 (createdAt, id 모두 null)
+ */
+record TimeIdCursor(LocalDateTime createdAt, Long id) {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    static final TimeIdCursor FIRST = new TimeIdCursor(null, null);
+
+    static TimeIdCursor parse(String cursor) {
+        if (cursor == null || !cursor.contains("_") || "null".equalsIgnoreCase(cursor)) {
+            return FIRST;
+        }
+        String[] parts = cursor.split("_", 2);
+        try {
+            return new TimeIdCursor(LocalDateTime.parse(parts[0], FMT), Long.parseLong(parts[1]));
+        } catch (Exception e) {
+            throw new RuntimeException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    static String format(LocalDateTime createdAt, Long id) {
+        return createdAt.format(FMT) + "_" + id;
+    }
+
+    /** 페이지 크기 보정 (null이면 기본값) */
+    static int pageSize(Integer limit, int defaultSize, int maxSize) {
+        return (limit == null) ? defaultSize : Math.max(1, Math.min(limit, maxSize));
+    }
+}
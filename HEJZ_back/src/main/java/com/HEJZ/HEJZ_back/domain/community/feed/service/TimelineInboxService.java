@@ -0,0 +1,128 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.TimelineInboxEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.TimelineInboxRepository;
+import com.HEJZ.HEJZ_back.domain.community.follow.repository.FollowRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팔로워별 타임라인 인박스 관리
+ * 쓰기 시점에 팔로워 인박스로 fan-out 하고, 읽기는 인박스 키셋 페이지만 본다.
+ * 전체 재구축/용량 제한은 유저마다 따로 커밋한다. (한 트랜잭션이 인박스 락과 undo를 계속 쥐고 있지 않게)
+ */
+@Slf4j
+@Service
+@Transactional
+public class TimelineInboxService {
+
+    public static final int INBOX_CAP = 1000; // 인박스당 최대 보관 개수
+
+    private final TimelineInboxRepository inboxRepository;
+    private final FollowRepository followRepository;
+    private final TransactionTemplate tx;
+
+    public TimelineInboxService(TimelineInboxRepository inboxRepository, FollowRepository followRepository,
+            PlatformTransactionManager txManager) {
+        this.inboxRepository = inboxRepository;
+        this.followRepository = followRepository;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    // =========================
+    // Write: fan-out / 제거
+    // =========================
+    public void fanOut(Long feedId, Long authorId, LocalDateTime createdAt) {
+        int pushed = inboxRepository.fanOut(feedId, authorId, createdAt);
+        log.debug("timeline fan-out feedId={} authorId={} followers={}", feedId, authorId, pushed);
+    }
+
+    public void removeFeed(Long feedId) {
+        inboxRepository.deleteByFeedId(feedId);
+    }
+
+    public void onFollow(Long ownerId, Long authorId) {
+        inboxRepository.backfillFromAuthor(ownerId, authorId, INBOX_CAP);
+        trim(ownerId);
+    }
+
+    public void onUnfollow(Long ownerId, Long authorId) {
+        inboxRepository.deleteByOwnerIdAndAuthorId(ownerId, authorId);
+    }
+
+    // =========================
+    // Read: 키셋 페이지
+    // =========================
+    @Transactional(readOnly = true)
+    public List<TimelineInboxEntity> readPage(Long ownerId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        return inboxRepository.findPage(ownerId, cursorCreatedAt, cursorId, PageRequest.of(0, size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> containedIn(Long ownerId, Collection<Long> feedIds) {
+        return inboxRepository.findFeedIdsIn(ownerId, feedIds);
+    }
+
+    // =========================
+    // 재구축 / 용량 제한
+    // =========================
+    public void rebuild(Long ownerId) {
+        inboxRepository.deleteByOwnerId(ownerId);
+        inboxRepository.rebuildOwner(ownerId, INBOX_CAP);
+    }
+
+    /** 팔로우 중인 모든 유저의 인박스 재구축 (유저별 트랜잭션). 재구축한 유저 수 */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        return forEachOwner(followRepository.findAllFollowerIds(), this::rebuild, "재구축");
+    }
+
+    public void trim(Long ownerId) {
+        // cap번째 항목을 경계로 그보다 오래된 항목 삭제
+        List<TimelineInboxEntity> boundary = inboxRepository.findPage(
+                ownerId, null, null, PageRequest.of(INBOX_CAP - 1, 1));
+        if (boundary.isEmpty()) {
+            return;
+        }
+        TimelineInboxEntity b = boundary.get(0);
+        inboxRepository.deleteOlderThan(ownerId, b.getCreatedAt(), b.getFeedId());
+    }
+
+    /** 용량을 넘은 인박스 정리 (유저별 트랜잭션). 정리한 유저 수 */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int trimAll() {
+        return forEachOwner(inboxRepository.findOwnersOverCap(INBOX_CAP), this::trim, "용량 정리");
+    }
+
+    // 유저마다 따로 커밋. 한 유저가 실패해도 나머지는 계속한다
+    private int forEachOwner(List<Long> owners, Consumer<Long> action, String what) {
+        int done = 0;
+        for (Long ownerId : owners) {
+            try {
+                tx.executeWithoutResult(status -> action.accept(ownerId));
+                done++;
+            } catch (DataAccessException e) {
+                log.warn("타임라인 인박스 {} 실패: ownerId={}: {}", what, ownerId, e.getMessage());
+            }
+        }
+        return done;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return inboxRepository.count() == 0;
+    }
+}
@@ -0,0 +1,4 @@
+package com.HEJZ.HEJZ_back.domain.community.follow.event;
+
+public record FollowedEvent(Long followerId, Long followingId) {
+}
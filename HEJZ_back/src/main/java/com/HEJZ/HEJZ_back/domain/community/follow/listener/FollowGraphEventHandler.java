@@ -0,0 +1,37 @@
+package com.HEJZ.HEJZ_back.domain.community.follow.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.HEJZ.HEJZ_back.domain.community.follow.event.FollowedEvent;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.UnfollowedEvent;
+import com.HEJZ.HEJZ_back.domain.community.follow.service.FollowGraph;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋된 팔로우/언팔로우만 메모리 팔로우 그래프에 반영한다. (기동 시 DB에서 다시 만듦)
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowGraphEventHandler {
+
+    private final FollowGraph graph;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        graph.rebuild();
+    }
+
+    @TransactionalEventListener
+    public void onFollowed(FollowedEvent e) {
+        graph.onFollowed(e.followerId(), e.followingId());
+    }
+
+    @TransactionalEventListener
+    public void onUnfollowed(UnfollowedEvent e) {
+        graph.onUnfollowed(e.followerId(), e.followingId());
+    }
+}
@@ -2,8 +2,11 @@ package com.HEJZ.HEJZ_back.domain.community.follow.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.HEJZ.HEJZ_back.domain.community.follow.entity.FollowEntity;
@@ -27,4 +30,19 @@ public interface FollowRepository extends JpaRepository<FollowEntity, Long> {
     // 목록
     List<FollowEntity> findByFollower_Username(String username);   // 내가 팔로우하는 사람들(= followings)
     List<FollowEntity> findByFollowing_Username(String username);  // 나를 팔로우하는 사람들(= followers)
+
+    // 팔로우 관계 존재 여부 (id 기준, 팔로우 그래프 적재 전 대체 경로)
+    boolean existsByFollower_IdAndFollowing_Id(Long followerId, Long followingId);
+
+    // 내가 팔로우하는 유저 id
+    @Query("select f.following.id from FollowEntity f where f.follower.id = :followerId")
+    List<Long> findFollowingIds(@Param("followerId") Long followerId);
+
+    // 팔로우 그래프 적재용 (id, followerId, followingId) 키셋 배치
+    @Query("select f.id, f.follower.id, f.following.id from FollowEntity f where f.id > :afterId order by f.id")
+    List<Object[]> findFollowPairs(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 누군가를 팔로우 중인 유저 id (타임라인 인박스 재구축용)
+    @Query("select distinct f.follower.id from FollowEntity f")
+    List<Long> findAllFollowerIds();
 }
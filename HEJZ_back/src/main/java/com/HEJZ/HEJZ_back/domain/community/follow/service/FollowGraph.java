@@ -0,0 +1,248 @@
+package com.HEJZ.HEJZ_back.domain.community.follow.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.follow.repository.FollowRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 팔로우 그래프
+ * 유저별 팔로잉/팔로워 id를 정렬된 long[]로 들고 있어 팔로우 여부를 이진 탐색(O(log n))으로 확인한다.
+ *
+ * - 배열은 한 번 넣으면 바꾸지 않는다. (팔로우/언팔로우는 새 배열로 교체, 읽기는 락 없음)
+ * - 기동 시 follows 테이블을 id 키셋 배치로 읽어 만들고, 이후에는 커밋된 팔로우/언팔로우 이벤트로 갱신한다.
+ * - 재구축 중 들어온 이벤트는 기존 그래프에 반영하면서 따로 모아 두었다가 새 그래프에 다시 적용한다. (집합 연산이라 중복 적용 무해)
+ * - 적재 전에는 DB로 답한다.
+ */
+@Slf4j
+@Component
+public class FollowGraph {
+
+    private static final int LOAD_BATCH = 10000;
+    private static final long[] EMPTY = new long[0];
+
+    private final FollowRepository followRepository;
+
+    // 유저 → 정렬된 id 배열 (읽기 전용으로 공개)
+    private volatile Map<Long, long[]> followings = new ConcurrentHashMap<>(); // 내가 팔로우하는 사람
+    private volatile Map<Long, long[]> followers = new ConcurrentHashMap<>(); // 나를 팔로우하는 사람
+
+    private final Object rebuildLock = new Object();
+    private List<long[]> pending; // 재구축 중 들어온 변경 {follower, following, 1=팔로우/0=언팔로우}
+    private volatile boolean ready;
+
+    public FollowGraph(FollowRepository followRepository) {
+        this.followRepository = followRepository;
+    }
+
+    /** follows 테이블에서 그래프를 새로 만든다. (기동 시) */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            if (pending != null) {
+                return; // 이미 재구축 중
+            }
+            pending = new ArrayList<>();
+        }
+        try {
+            load();
+        } finally {
+            synchronized (rebuildLock) {
+                pending = null; // 실패해도 다음 재구축이 가능하게
+            }
+        }
+    }
+
+    private void load() {
+        long startedAt = System.nanoTime();
+
+        // (follower, following) 쌍을 원시 배열로 모은다
+        long[] from = new long[1024];
+        long[] to = new long[1024];
+        int count = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = followRepository.findFollowPairs(afterId, PageRequest.of(0, LOAD_BATCH));
+            if (count + rows.size() > from.length) {
+                int cap = Math.max(from.length * 2, count + rows.size());
+                from = Arrays.copyOf(from, cap);
+                to = Arrays.copyOf(to, cap);
+            }
+            for (Object[] r : rows) {
+                from[count] = (Long) r[1];
+                to[count] = (Long) r[2];
+                count++;
+            }
+            if (rows.size() < LOAD_BATCH) {
+                break;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        Map<Long, long[]> newFollowings = group(from, to, count);
+        Map<Long, long[]> newFollowers = group(to, from, count);
+
+        int replayed;
+        synchronized (rebuildLock) {
+            for (long[] op : pending) {
+                apply(newFollowings, newFollowers, op[0], op[1], op[2] == 1);
+            }
+            replayed = pending.size();
+            followings = newFollowings;
+            followers = newFollowers;
+            ready = true;
+        }
+        log.info("팔로우 그래프 적재: 팔로우 {}건, 유저 {}명, 재적용 {}건, 약 {}KB, {}ms",
+                edges(), newFollowings.size(), replayed, sizeInBytes() / 1024,
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void onFollowed(long followerId, long followingId) {
+        update(followerId, followingId, true);
+    }
+
+    public void onUnfollowed(long followerId, long followingId) {
+        update(followerId, followingId, false);
+    }
+
+    private void update(long followerId, long followingId, boolean add) {
+        synchronized (rebuildLock) {
+            if (pending != null) {
+                pending.add(new long[] { followerId, followingId, add ? 1 : 0 });
+            }
+            // 새 그래프 교체와 겹치지 않게 락 안에서 반영 (배열 복사라 짧음)
+            apply(followings, followers, followerId, followingId, add);
+        }
+    }
+
+    /** followerId가 followingId를 팔로우 중인지 */
+    public boolean isFollowing(Long followerId, Long followingId) {
+        if (!ready) {
+            return followRepository.existsByFollower_IdAndFollowing_Id(followerId, followingId);
+        }
+        long[] ids = followings.get(followerId);
+        return ids != null && Arrays.binarySearch(ids, followingId) >= 0;
+    }
+
+    /** 내가 팔로우하는 유저 id (오름차순, 수정 금지) */
+    public long[] followees(Long userId) {
+        if (!ready) {
+            long[] ids = followRepository.findFollowingIds(userId).stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(ids);
+            return ids;
+        }
+        return followings.getOrDefault(userId, EMPTY);
+    }
+
+    /** 나를 팔로우하는 유저 id (오름차순, 수정 금지). 적재 전이면 빈 배열 */
+    public long[] followersOf(Long userId) {
+        return followers.getOrDefault(userId, EMPTY);
+    }
+
+    /** 방향별 팔로우 수 (중복 제거 후) */
+    public long edges() {
+        long n = 0;
+        for (long[] ids : followings.values()) {
+            n += ids.length;
+        }
+        return n;
+    }
+
+    /** 대략적인 메모리 사용량 (배열 + 맵 엔트리/Long 키 오버헤드 추정, 양방향 합) */
+    public long sizeInBytes() {
+        return sizeOf(followings) + sizeOf(followers);
+    }
+
+    private static long sizeOf(Map<Long, long[]> graph) {
+        long bytes = 0;
+        for (long[] ids : graph.values()) {
+            bytes += 8L * ids.length + 16 + 56; // 배열 본체/헤더 + 맵 노드/Long 키/테이블 슬롯
+        }
+        return bytes;
+    }
+
+    private static void apply(Map<Long, long[]> followings, Map<Long, long[]> followers,
+            long followerId, long followingId, boolean add) {
+        if (add) {
+            followings.compute(followerId, (k, ids) -> with(ids, followingId));
+            followers.compute(followingId, (k, ids) -> with(ids, followerId));
+        } else {
+            followings.computeIfPresent(followerId, (k, ids) -> without(ids, followingId));
+            followers.computeIfPresent(followingId, (k, ids) -> without(ids, followerId));
+        }
+    }
+
+    // 정렬 유지하며 추가한 새 배열 (이미 있으면 그대로)
+    private static long[] with(long[] ids, long id) {
+        if (ids == null) {
+            return new long[] { id };
+        }
+        int i = Arrays.binarySearch(ids, id);
+        if (i >= 0) {
+            return ids;
+        }
+        int at = -i - 1;
+        long[] out = new long[ids.length + 1];
+        System.arraycopy(ids, 0, out, 0, at);
+        out[at] = id;
+        System.arraycopy(ids, at, out, at + 1, ids.length - at);
+        return out;
+    }
+
+    // 뺀 새 배열. 비면 null (맵에서 제거)
+    private static long[] without(long[] ids, long id) {
+        int i = Arrays.binarySearch(ids, id);
+        if (i < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] out = new long[ids.length - 1];
+        System.arraycopy(ids, 0, out, 0, i);
+        System.arraycopy(ids, i + 1, out, i, ids.length - i - 1);
+        return out;
+    }
+
+    // keys[i] → values[i] 쌍을 키별 정렬·중복 제거된 배열로 묶는다
+    private static Map<Long, long[]> group(long[] keys, long[] values, int n) {
+        Map<Long, int[]> counts = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            counts.computeIfAbsent(keys[i], k -> new int[1])[0]++;
+        }
+        Map<Long, long[]> out = new ConcurrentHashMap<>(Math.max(16, counts.size() * 4 / 3 + 1));
+        for (Map.Entry<Long, int[]> e : counts.entrySet()) {
+            out.put(e.getKey(), new long[e.getValue()[0]]);
+            e.getValue()[0] = 0; // 채운 개수로 재사용
+        }
+        for (int i = 0; i < n; i++) {
+            int[] filled = counts.get(keys[i]);
+            out.get(keys[i])[filled[0]++] = values[i];
+        }
+        out.replaceAll((k, ids) -> dedupe(ids));
+        return out;
+    }
+
+    private static long[] dedupe(long[] ids) {
+        Arrays.sort(ids);
+        int w = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (w == 0 || ids[i] != ids[w - 1]) {
+                ids[w++] = ids[i];
+            }
+        }
+        return w == ids.length ? ids : Arrays.copyOf(ids, w);
+    }
+}
@@ -2,10 +2,13 @@ package com.HEJZ.HEJZ_back.domain.community.follow.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.HEJZ.HEJZ_back.domain.community.follow.dto.FollowDto;
 import com.HEJZ.HEJZ_back.domain.community.follow.entity.FollowEntity;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.FollowedEvent;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.UnfollowedEvent;
 import com.HEJZ.HEJZ_back.domain.community.follow.repository.FollowRepository;
 import com.HEJZ.HEJZ_back.domain.community.user.entity.UserEntity;
 import com.HEJZ.HEJZ_back.domain.community.user.repository.UserRepository;
@@ -20,6 +23,8 @@ public class FollowService {
 
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
+    private final FollowGraph followGraph;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ApiResponse<Object> followUser(String myUsername, String targetUsername) {
@@ -42,6 +47,7 @@ public class FollowService {
                     .following(target)
                     .build();
             followRepository.save(follow);
+            eventPublisher.publishEvent(new FollowedEvent(me.getId(), target.getId()));
 
             return new ApiResponse<>(200, follow, "팔로우 성공");
         } catch (Exception e) {
@@ -60,7 +66,11 @@ public class FollowService {
                 return new ApiResponse<>(400, null, "자기 자신은 언팔로우할 수 없습니다.");
             }
 
-            followRepository.deleteByFollower_UsernameAndFollowing_Username(myUsername, targetUsername);
+            int deleted = followRepository.deleteByFollower_UsernameAndFollowing_Username(myUsername, targetUsername);
+            if (deleted > 0) {
+                Long myId = userRepository.findIdByUsername(myUsername);
+                eventPublisher.publishEvent(new UnfollowedEvent(myId, target.getId()));
+            }
             return new ApiResponse<>(200, null, "언팔로우 성공");
         } catch (Exception e) {
             return new ApiResponse<>(500, null, "언팔로우 실패: " + e.getMessage());
@@ -109,12 +119,12 @@ public class FollowService {
     @Transactional
     public ApiResponse<Object> isInterFollow(String myUsername, String targetUsername) {
         try {
-            boolean doIFollowTarget = followRepository
-                    .existsByFollower_UsernameAndFollowing_Username(myUsername, targetUsername);
-            boolean doesTargetFollowMe = followRepository
-                    .existsByFollower_UsernameAndFollowing_Username(targetUsername, myUsername);
-
-            boolean result = doIFollowTarget && doesTargetFollowMe;
+            Long myId = userRepository.findIdByUsername(myUsername);
+            Long targetId = userRepository.findIdByUsername(targetUsername);
+            // 없는 유저면 팔로우 관계도 없음 (맞팔 아님)
+            boolean result = myId != null && targetId != null
+                    && followGraph.isFollowing(myId, targetId)
+                    && followGraph.isFollowing(targetId, myId);
             return new ApiResponse<>(200, result, result ? "맞팔입니다." : "맞팔이 아닙니다.");
         } catch (Exception e) {
             return new ApiResponse<>(500, null, "맞팔 여부 조회 실패");
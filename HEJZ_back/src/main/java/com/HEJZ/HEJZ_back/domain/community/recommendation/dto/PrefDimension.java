@@ -0,0 +1,6 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.dto;
+
+/** 취향 점수 차원 */
+public enum PrefDimension {
+    AUTHOR, GENRE, EMOTION
+}
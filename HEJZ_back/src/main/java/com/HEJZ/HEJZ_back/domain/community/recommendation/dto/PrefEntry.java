@@ -0,0 +1,5 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.dto;
+
+/** 취향 키 하나와 현재(감쇠 적용) 점수 */
+public record PrefEntry(long key, double score) {
+}
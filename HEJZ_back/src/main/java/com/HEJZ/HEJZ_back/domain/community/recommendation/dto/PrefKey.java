@@ -0,0 +1,50 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.dto;
+
+/**
+ * 취향 키 (차원, id)를 long 하나로 인코딩한다.
+ * 상위 8비트 = 차원(ordinal + 1), 하위 56비트 = id (작성자는 유저 id, 장르/감정은 태그 사전 id)
+ *
+ * 예전 "author:123" 문자열 키를 대체한다. 0은 "키 없음"
+ */
+public final class PrefKey {
+
+    public static final long NONE = 0L;
+
+    private static final int DIM_SHIFT = 56;
+    private static final long ID_MASK = (1L << DIM_SHIFT) - 1;
+    private static final PrefDimension[] DIMENSIONS = PrefDimension.values();
+
+    private PrefKey() {
+    }
+
+    /** id가 음수(사전에 없음)면 NONE */
+    public static long of(PrefDimension dimension, long id) {
+        if (id < 0) {
+            return NONE;
+        }
+        return base(dimension) | (id & ID_MASK);
+    }
+
+    public static long author(Long userId) {
+        return userId == null ? NONE : of(PrefDimension.AUTHOR, userId);
+    }
+
+    /** 해당 차원의 id 0 키. 쿼리에서 base + id로 키를 만들 때 쓴다. */
+    public static long base(PrefDimension dimension) {
+        return (long) (dimension.ordinal() + 1) << DIM_SHIFT;
+    }
+
+    public static PrefDimension dimension(long key) {
+        int d = (int) (key >>> DIM_SHIFT) - 1;
+        return (d >= 0 && d < DIMENSIONS.length) ? DIMENSIONS[d] : null;
+    }
+
+    public static long id(long key) {
+        return key & ID_MASK;
+    }
+
+    public static String toString(long key) {
+        PrefDimension d = dimension(key);
+        return d == null ? "NONE" : d.name() + ":" + id(key);
+    }
+}
@@ -0,0 +1,141 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.dto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.entity.UserPrefScoreEntity;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefDecay;
+import com.HEJZ.HEJZ_back.global.util.LongDoubleHashMap;
+
+/**
+ * 한 유저의 취향 벡터 (PrefKey → 점수) 읽기 전용 스냅샷.
+ * 랭킹 루프에서는 primitive long 키로만 조회한다.
+ *
+ * 캐시에 올릴 때는 점수 상위 maxKeys개만 남기고, 보관하지 않은 키는 0으로 본다.
+ * (잘린 꼬리 평균을 기본값으로 쓰면 한 번도 본 적 없는 작성자/태그까지 양수가 되고, 차원 간 척도도 섞인다)
+ * 변경은 withDelta로 새 인스턴스를 만든다. (copy-on-write)
+ *
+ * 감쇠: 캐시에 올린 값은 refEpochSec 시점으로 감쇠해 둔 값이고,
+ * 요청마다 at(now)로 차원별 감쇠 비율 표를 한 번 계산해 get에서 곱한다.
+ */
+public final class PrefScores {
+
+    public static final PrefScores EMPTY = new PrefScores(new LongDoubleHashMap(), false, 0L);
+
+    // 해당 시점이 이만큼 지나면 withDelta 대신 재로드 (증분 환산 비율이 너무 커지지 않도록)
+    private static final long MAX_REF_AGE_SECONDS = 24 * 60 * 60;
+
+    private final LongDoubleHashMap scores;
+    private final boolean truncated; // 상위 N개로 잘렸는지
+    private final long refEpochSec; // scores가 감쇠돼 있는 기준 시각
+    private final double[] factors; // at()으로 만든 읽기용 뷰의 차원별 감쇠 비율 (스냅샷 원본은 null)
+
+    // 차원별 최대값 (없거나 음수면 0) → 스캔 조기 종료 상한 계산용
+    private final double[] maxByDimension;
+
+    private PrefScores(LongDoubleHashMap scores, boolean truncated, long refEpochSec) {
+        this.scores = scores;
+        this.truncated = truncated;
+        this.refEpochSec = refEpochSec;
+        this.factors = null;
+        this.maxByDimension = new double[PrefDimension.values().length]; // 보관하지 않은 키(0)가 있으므로 0부터
+        scores.forEach((key, value) -> {
+            PrefDimension d = PrefKey.dimension(key);
+            if (d != null && value > maxByDimension[d.ordinal()]) {
+                maxByDimension[d.ordinal()] = value;
+            }
+        });
+    }
+
+    // 감쇠 뷰: 맵은 공유하고 최대값만 비율만큼 줄인다 (비율 > 0이라 최대 키는 그대로)
+    private PrefScores(PrefScores base, double[] factors) {
+        this.scores = base.scores;
+        this.truncated = base.truncated;
+        this.refEpochSec = base.refEpochSec;
+        this.factors = factors;
+        this.maxByDimension = new double[base.maxByDimension.length];
+        for (int i = 0; i < maxByDimension.length; i++) {
+            maxByDimension[i] = base.maxByDimension[i] * factors[i];
+        }
+    }
+
+    public static PrefScores from(Iterable<UserPrefScoreEntity> rows) {
+        return from(rows, Integer.MAX_VALUE, 0L);
+    }
+
+    /**
+     * 점수 상위 maxKeys개만 보관
+     *
+     * @param refEpochSec rows의 점수가 감쇠돼 있는 기준 시각
+     */
+    public static PrefScores from(Iterable<UserPrefScoreEntity> rows, int maxKeys, long refEpochSec) {
+        List<UserPrefScoreEntity> sorted = new ArrayList<>();
+        rows.forEach(sorted::add);
+
+        boolean truncated = sorted.size() > maxKeys;
+        if (truncated) {
+            sorted.sort(Comparator.comparingDouble(UserPrefScoreEntity::getScore).reversed());
+            sorted = sorted.subList(0, maxKeys);
+        }
+
+        LongDoubleHashMap map = new LongDoubleHashMap(sorted.size());
+        for (var r : sorted) {
+            map.put(r.getKey(), r.getScore());
+        }
+        return new PrefScores(map, truncated, refEpochSec);
+    }
+
+    /** nowEpochSec 기준 감쇠 뷰. 랭킹 루프의 get은 곱셈 한 번만 더한다. */
+    public PrefScores at(long nowEpochSec, PrefDecay decay) {
+        if (factors != null) {
+            throw new IllegalStateException("이미 감쇠 뷰");
+        }
+        return new PrefScores(this, decay.factors(nowEpochSec - refEpochSec));
+    }
+
+    /**
+     * nowEpochSec에 key로 delta를 더한 새 스냅샷. (delta는 기준 시각 값으로 환산해 더한다)
+     * 잘린 벡터에 없는 키라 이전 값을 알 수 없거나, 상한을 넘거나, 기준 시각이 오래됐으면 null
+     * (캐시에서 버리고 다시 로드)
+     */
+    public PrefScores withDelta(long key, double delta, int maxKeys, long nowEpochSec, PrefDecay decay) {
+        if (factors != null) {
+            throw new IllegalStateException("감쇠 뷰는 변경 불가");
+        }
+        if (key == PrefKey.NONE) {
+            return this;
+        }
+        if (!scores.containsKey(key) && (truncated || scores.size() >= maxKeys)) {
+            return null;
+        }
+        long elapsed = nowEpochSec - refEpochSec;
+        if (elapsed > MAX_REF_AGE_SECONDS) {
+            return null;
+        }
+        LongDoubleHashMap copy = scores.copy();
+        copy.addTo(key, delta / decay.factor(key, elapsed));
+        return new PrefScores(copy, truncated, refEpochSec);
+    }
+
+    /** 키 점수. 보관하지 않은 키와 NONE은 0 (감쇠 뷰면 비율 적용) */
+    public double get(long key) {
+        if (key == PrefKey.NONE) {
+            return 0.0;
+        }
+        double v = scores.get(key, 0.0);
+        if (factors == null) {
+            return v;
+        }
+        PrefDimension d = PrefKey.dimension(key);
+        return d == null ? v : v * factors[d.ordinal()];
+    }
+
+    public double maxOf(PrefDimension dimension) {
+        return maxByDimension[dimension.ordinal()];
+    }
+
+    public int size() {
+        return scores.size();
+    }
+}
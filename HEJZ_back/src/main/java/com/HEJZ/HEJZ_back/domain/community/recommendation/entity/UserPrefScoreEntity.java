@@ -42,11 +42,15 @@ public class UserPrefScoreEntity {
         @Column(name = "user_id", nullable = false)
         private Long userId;
 
-        @Column(name = "pref_key", nullable = false, length = 100)
-        private String key; // e.g. "emotion:행복", "genre:ROCK"
+        @Column(name = "pref_key", nullable = false)
+        private Long key; // PrefKey로 인코딩한 (차원, id) e.g. PrefKey.of(GENRE, 3)
 
         @Column(nullable = false)
-        private double score; // 누적 가중치
+        private double score; // scoreUpdatedAt 시점 기준 가중치 (읽을 때 PrefDecay로 감쇠)
+
+        // 점수를 마지막으로 감쇠/가산한 시각. NULL이면 컬럼 추가 이전 행 → updatedAt 기준
+        @Column(name = "score_updated_at")
+        private LocalDateTime scoreUpdatedAt;
 
         @Version
         private long version; // 낙관적 lock
@@ -58,4 +62,9 @@ public class UserPrefScoreEntity {
         @LastModifiedDate
         @Column(nullable = false)
         private LocalDateTime updatedAt;
+
+        /** 점수 감쇠 기준 시각 */
+        public LocalDateTime scoreTime() {
+                return scoreUpdatedAt != null ? scoreUpdatedAt : updatedAt;
+        }
 }
@@ -1,43 +1,125 @@
 package com.HEJZ.HEJZ_back.domain.community.recommendation.listener;
 
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.stereotype.Component;
 
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
 import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.FeedTags;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.TagDictionaryService;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
 import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
 import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedUnlikedEvent;
 import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefStoreService;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogConsumer;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogOffsetStore;
+import com.HEJZ.HEJZ_back.global.eventlog.LoggedEvent;
+import com.HEJZ.HEJZ_back.global.util.LongDoubleHashMap;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 이벤트 로그 소비자: 피드 좋아요 → 취향 점수
+ * 배치에 나온 피드를 한 번에 읽어 작성자/장르/감정 가중치를 더하고, 좋아요 취소는 같은 만큼 뺀다.
+ * 배치 전체를 합친 뒤에 한 번에 넘기므로 피드 조회가 실패하면 아무것도 더하지 않는다.
+ * 버퍼에 넘긴 seq 이하는 다시 받아도 건너뛰고, 오프셋 파일은 버퍼가 DB에 커밋한 seq까지만 전진한다.
+ */
 @Component
 @RequiredArgsConstructor
-public class FeedLikeEventHandler {
+public class FeedLikeEventHandler implements EventLogConsumer {
+
+    // 좋아요 한 번의 취향 가중치
+    static final double AUTHOR_DELTA = 1.0;
+    static final double GENRE_DELTA = 0.7;
+    static final double EMOTION_DELTA = 0.4;
 
     private final FeedRepository feedRepository;
     private final PrefStoreService pref;
+    private final TagDictionaryService tagDictionary;
+    private final EventLogOffsetStore offsetStore;
+
+    private long accepted = -1; // 버퍼에 넘긴 마지막 seq (-1: 아직 DB에서 안 읽음)
 
-    @Async
-    @EventListener
-    public void onFeedLiked(FeedLikedEvent e) {
-        var feed = feedRepository.findById(e.feedId()).orElse(null);
-        if (feed == null)
+    @Override
+    public String name() {
+        return "pref";
+    }
+
+    @Override
+    public void handle(List<LoggedEvent> batch) {
+        long from = accepted();
+        long last = from;
+        Set<Long> feedIds = new HashSet<>();
+        for (LoggedEvent logged : batch) {
+            if (logged.seq() <= from) {
+                continue;
+            }
+            if (logged.event() instanceof FeedLikedEvent e) {
+                feedIds.add(e.feedId());
+                last = logged.seq();
+            } else if (logged.event() instanceof FeedUnlikedEvent e) {
+                feedIds.add(e.feedId());
+                last = logged.seq();
+            }
+        }
+        if (feedIds.isEmpty()) {
             return;
+        }
+
+        Map<Long, FeedEntity> feeds = new HashMap<>();
+        for (FeedEntity feed : feedRepository.findAllById(feedIds)) {
+            feeds.put(feed.getId(), feed);
+        }
 
-        // 감정/장르 가중치 +1
-        pref.add(e.userId(), "emotion: " + feed.getEmotion(), 1.0);
-        pref.add(e.userId(), "genre: " + feed.getGenre(), 1.0);
+        Map<Long, LongDoubleHashMap> deltas = new HashMap<>();
+        for (LoggedEvent logged : batch) {
+            if (logged.seq() <= from) {
+                continue;
+            }
+            if (logged.event() instanceof FeedLikedEvent e) {
+                collect(deltas, e.userId(), feeds.get(e.feedId()), +1);
+            } else if (logged.event() instanceof FeedUnlikedEvent e) {
+                collect(deltas, e.userId(), feeds.get(e.feedId()), -1);
+            }
+        }
+        pref.addLogged(name(), last, deltas);
+        accepted = last;
     }
 
-    @Async
-    @EventListener
-    public void onFeedUnliked(FeedUnlikedEvent e) {
-        var feed = feedRepository.findById(e.feedId()).orElse(null);
-        if (feed == null)
+    @Override
+    public long durableSeq(long handledSeq) {
+        long applied = offsetStore.appliedSeq(name());
+        return accepted() <= applied ? handledSeq : applied;
+    }
+
+    private long accepted() {
+        if (accepted < 0) {
+            accepted = offsetStore.appliedSeq(name());
+        }
+        return accepted;
+    }
+
+    private void collect(Map<Long, LongDoubleHashMap> deltas, Long userId, FeedEntity feed, int sign) {
+        if (feed == null) {
             return;
+        }
+        LongDoubleHashMap keys = deltas.computeIfAbsent(userId, k -> new LongDoubleHashMap());
+        addTo(keys, PrefKey.author(feed.getUser().getId()), sign * AUTHOR_DELTA);
+        addTo(keys, PrefKey.of(PrefDimension.GENRE, FeedTags.genreId(feed, tagDictionary)), sign * GENRE_DELTA);
+        addTo(keys, PrefKey.of(PrefDimension.EMOTION, FeedTags.emotionId(feed, tagDictionary)),
+                sign * EMOTION_DELTA);
+    }
 
-        pref.add(e.userId(), "emotion:" + feed.getEmotion(), -1.0);
-        pref.add(e.userId(), "genre:" + feed.getGenre(), -1.0);
+    // NONE(장르/감정 없음)은 무시
+    private static void addTo(LongDoubleHashMap keys, long key, double delta) {
+        if (key != PrefKey.NONE) {
+            keys.addTo(key, delta);
+        }
     }
 }
@@ -0,0 +1,199 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.migration;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.TagDictionaryService;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefDecay;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * user_pref_score.pref_key 마이그레이션: VARCHAR("author:123") → BIGINT(PrefKey)
+ *
+ * ddl-auto=update는 컬럼 타입을 바꾸지 않으므로 기동 시 한 번 직접 변환한다.
+ * - "emotion: 행복"처럼 공백이 섞여 따로 쌓이던 키는 같은 키로 합산
+ *   (행마다 감쇠 기준 시각이 다르므로 그룹의 가장 최근 시각으로 감쇠한 뒤 더한다)
+ * - "genre:null" 등 의미 없는 키는 삭제
+ *
+ * 중간에 죽어도 다음 기동에서 이어서 끝낸다.
+ * 1) pref_key_new 추가  2) 행 정리/채우기 (한 트랜잭션)  3) 컬럼 교체 + 유니크 키 (ALTER 한 문장)
+ * pref_key_new가 남아 있으면 3)까지 못 간 것이므로 3)만 다시 한다.
+ * (그사이 ddl-auto가 빈 BIGINT pref_key를 만들어 뒀을 수 있어 그것도 지운다)
+ * 이미 BIGINT고 pref_key_new가 없으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class PrefKeyMigration implements ApplicationRunner {
+
+    private static final String TABLE = "user_pref_score";
+    private static final int DELETE_BATCH = 1000;
+
+    private final JdbcTemplate jdbc;
+    private final TagDictionaryService tagDictionary;
+    private final PrefDecay decay;
+    private final TransactionTemplate tx;
+
+    public PrefKeyMigration(JdbcTemplate jdbc, TagDictionaryService tagDictionary, PrefDecay decay,
+            PlatformTransactionManager txManager) {
+        this.jdbc = jdbc;
+        this.tagDictionary = tagDictionary;
+        this.decay = decay;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String type = columnType("pref_key");
+        boolean legacy = type != null && type.toLowerCase().contains("char");
+        boolean hasNew = columnType("pref_key_new") != null;
+        if (!legacy && !hasNew) {
+            return;
+        }
+
+        if (legacy) {
+            log.info("pref_key 마이그레이션 시작 ({} → BIGINT)", type);
+            if (!hasNew) {
+                jdbc.execute("ALTER TABLE " + TABLE + " ADD COLUMN pref_key_new BIGINT NULL");
+            }
+            rewriteRows();
+        } else {
+            log.info("pref_key 마이그레이션 이어서 마무리 (pref_key_new 남아 있음)");
+        }
+        swapColumns(type != null);
+        log.info("pref_key 마이그레이션 완료");
+    }
+
+    // 2) 행 정리. 다시 실행해도 결과가 같다 (남은 행은 그룹당 한 줄, 기준 시각 = 자기 시각)
+    private void rewriteRows() {
+        record Row(long id, long userId, String key, double score, LocalDateTime scoreTime) {
+        }
+        List<Row> rows = jdbc.query(
+                "SELECT id, user_id, pref_key, score, COALESCE(score_updated_at, updated_at) AS t FROM " + TABLE,
+                (rs, i) -> new Row(rs.getLong("id"), rs.getLong("user_id"), rs.getString("pref_key"),
+                        rs.getDouble("score"), rs.getTimestamp("t").toLocalDateTime()));
+
+        // 사전 등록(별도 트랜잭션)은 행 정리 트랜잭션 밖에서 먼저
+        Map<String, Long> converted = new HashMap<>();
+        for (Row r : rows) {
+            converted.computeIfAbsent(r.key(), this::convert);
+        }
+
+        // (user, 새 키)별 그룹: 첫 행을 남기고 나머지는 삭제
+        Map<String, List<Row>> groups = new LinkedHashMap<>();
+        List<Long> deletes = new ArrayList<>();
+        for (Row r : rows) {
+            long key = converted.get(r.key());
+            if (key == PrefKey.NONE) {
+                deletes.add(r.id());
+                continue;
+            }
+            groups.computeIfAbsent(r.userId() + "|" + key, g -> new ArrayList<>()).add(r);
+        }
+
+        List<Object[]> updates = new ArrayList<>(groups.size());
+        for (List<Row> group : groups.values()) {
+            long key = converted.get(group.get(0).key());
+            LocalDateTime ref = group.get(0).scoreTime();
+            for (Row r : group) {
+                if (r.scoreTime().isAfter(ref)) {
+                    ref = r.scoreTime();
+                }
+            }
+            double score = 0.0;
+            for (Row r : group) {
+                long elapsed = PrefDecay.epochSecond(ref) - PrefDecay.epochSecond(r.scoreTime());
+                score += r.score() * decay.factor(key, elapsed);
+            }
+            for (int i = 1; i < group.size(); i++) {
+                deletes.add(group.get(i).id());
+            }
+            updates.add(new Object[] { key, score, Timestamp.valueOf(ref), group.get(0).id() });
+        }
+
+        tx.executeWithoutResult(status -> {
+            for (int from = 0; from < deletes.size(); from += DELETE_BATCH) {
+                List<Long> chunk = deletes.subList(from, Math.min(from + DELETE_BATCH, deletes.size()));
+                jdbc.update("DELETE FROM " + TABLE + " WHERE id IN ("
+                        + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")", chunk.toArray());
+            }
+            jdbc.batchUpdate("UPDATE " + TABLE + " SET pref_key_new = ?, score = ?, score_updated_at = ? WHERE id = ?",
+                    updates);
+        });
+        log.info("pref_key 행 정리: rows={} keys={} deleted={}", rows.size(), updates.size(), deletes.size());
+    }
+
+    // 3) 컬럼 교체. 한 ALTER 문이라 중간 상태가 남지 않는다
+    private void swapColumns(boolean dropOld) {
+        List<String> changes = new ArrayList<>();
+        if (indexExists("uk_user_key")) {
+            changes.add("DROP INDEX uk_user_key");
+        }
+        if (dropOld) {
+            changes.add("DROP COLUMN pref_key");
+        }
+        changes.add("CHANGE COLUMN pref_key_new pref_key BIGINT NOT NULL");
+        changes.add("ADD CONSTRAINT uk_user_key UNIQUE (user_id, pref_key)");
+        jdbc.execute("ALTER TABLE " + TABLE + " " + String.join(", ", changes));
+    }
+
+    private boolean indexExists(String index) {
+        Integer n = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?
+                """, Integer.class, TABLE, index);
+        return n != null && n > 0;
+    }
+
+    private String columnType(String column) {
+        List<String> types = jdbc.queryForList("""
+                SELECT DATA_TYPE FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+                """, String.class, TABLE, column);
+        return types.isEmpty() ? null : types.get(0);
+    }
+
+    // 예전 문자열 키 → PrefKey, 해석 불가면 NONE
+    private long convert(String legacy) {
+        if (legacy == null) {
+            return PrefKey.NONE;
+        }
+        int sep = legacy.indexOf(':');
+        if (sep < 0) {
+            return PrefKey.NONE;
+        }
+        String dim = legacy.substring(0, sep).trim();
+        String value = legacy.substring(sep + 1).trim();
+        if (value.isEmpty() || "null".equals(value)) {
+            return PrefKey.NONE;
+        }
+        return switch (dim) {
+            case "author" -> {
+                try {
+                    yield PrefKey.of(PrefDimension.AUTHOR, Long.parseLong(value));
+                } catch (NumberFormatException e) {
+                    yield PrefKey.NONE;
+                }
+            }
+            case "genre" -> PrefKey.of(PrefDimension.GENRE, tagDictionary.getOrCreate(PrefDimension.GENRE, value));
+            case "emotion" ->
+                PrefKey.of(PrefDimension.EMOTION, tagDictionary.getOrCreate(PrefDimension.EMOTION, value));
+            default -> PrefKey.NONE;
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.scheduler;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrefCacheStatsScheduler {
+
+    private final PrefCacheService prefCacheService;
+
+    // 매 5분마다 취향 캐시 적중률/축출 현황 기록
+    @Scheduled(cron = "0 */5 * * * *")
+    public void logStats() {
+        var s = prefCacheService.stats();
+        log.info("취향 캐시: size={} hitRate={} hits={} misses={} evictions={} avgLoadMs={}",
+                prefCacheService.size(),
+                String.format("%.3f", s.hitRate()),
+                s.hitCount(),
+                s.missCount(),
+                s.evictionCount(),
+                String.format("%.2f", s.averageLoadPenalty() / 1_000_000.0));
+    }
+}
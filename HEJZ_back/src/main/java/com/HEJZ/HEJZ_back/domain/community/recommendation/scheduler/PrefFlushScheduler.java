@@ -0,0 +1,21 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefDeltaBuffer;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class PrefFlushScheduler {
+
+    private final PrefDeltaBuffer prefDeltaBuffer;
+
+    // 500ms마다 쌓인 취향 점수 증분을 배치 upsert로 반영
+    @Scheduled(fixedDelay = 500)
+    public void flush() {
+        prefDeltaBuffer.flush();
+    }
+}
@@ -0,0 +1,83 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefScores;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 활성 유저의 취향 벡터 인메모리 캐시
+ * 읽기는 캐시에서, 쓰기(PrefStoreService.add)는 커밋 후 캐시 값을 제자리에서 갱신한다.
+ * 미스 로드는 PrefReader (DB 값을 로드 시각으로 감쇠 + 반영 대기 증분).
+ * 로드에 이미 들어간 증분(순번이 로드의 addSeq 이하)은 갱신 때 건너뛴다.
+ * get은 요청 시각 기준 감쇠 뷰를 돌려준다. (차원별 비율 표 한 번 계산)
+ */
+@Service
+public class PrefCacheService {
+
+    public static final int MAX_USERS = 50_000; // 캐시에 올릴 최대 유저 수
+    public static final int MAX_KEYS_PER_USER = 200; // 유저당 보관할 상위 키 개수
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(30); // 미접속 유저 만료
+
+    private final PrefReader reader;
+    private final PrefDecay decay;
+    private final Cache<Long, Entry> cache;
+
+    // scores에는 addSeq 이하 증분이 반영돼 있다 (로드 시점 값, 갱신해도 그대로)
+    private record Entry(PrefScores scores, long addSeq) {
+    }
+
+    public PrefCacheService(PrefReader reader, PrefDecay decay) {
+        this.reader = reader;
+        this.decay = decay;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_USERS)
+                .expireAfterAccess(IDLE_EXPIRY)
+                .recordStats()
+                .build();
+    }
+
+    /** 유저 취향 벡터의 현재 시각 감쇠 뷰 (미스 시 DB에서 로드) */
+    public PrefScores get(Long userId) {
+        return cache.get(userId, this::load).scores().at(now(), decay);
+    }
+
+    private Entry load(Long userId) {
+        long now = now();
+        PrefReader.Loaded loaded = reader.load(userId, now);
+        return new Entry(PrefScores.from(loaded.rows(), MAX_KEYS_PER_USER, now), loaded.addSeq());
+    }
+
+    /**
+     * 캐시에 있는 유저만 갱신. 이전 값을 알 수 없으면 엔트리를 버린다.
+     *
+     * @param addSeq PrefDeltaBuffer가 이 증분에 매긴 순번 (겹쳐 로드된 엔트리면 이미 들어 있으므로 건너뜀)
+     */
+    public void applyDelta(Long userId, long key, double delta, long addSeq) {
+        long now = now();
+        cache.asMap().computeIfPresent(userId, (id, v) -> addSeq <= v.addSeq()
+                ? v
+                : new Entry(v.scores().withDelta(key, delta, MAX_KEYS_PER_USER, now, decay), v.addSeq()));
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    private static long now() {
+        return PrefDecay.epochSecond(LocalDateTime.now());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,60 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+
+/**
+ * 취향 점수 지수 감쇠 (차원별 반감기)
+ * 점수는 (값, 마지막 갱신 시각)으로 저장하고, 배치로 테이블을 다시 쓰지 않고
+ * 읽을 때와 증분을 더할 때만 경과 시간만큼 감쇠한다.
+ */
+@Component
+public class PrefDecay {
+
+    private final double[] halfLifeSeconds = new double[PrefDimension.values().length];
+
+    public PrefDecay(
+            @Value("${feed.pref.half-life-days.author:30}") double authorDays,
+            @Value("${feed.pref.half-life-days.genre:60}") double genreDays,
+            @Value("${feed.pref.half-life-days.emotion:14}") double emotionDays) {
+        halfLifeSeconds[PrefDimension.AUTHOR.ordinal()] = authorDays * 86_400;
+        halfLifeSeconds[PrefDimension.GENRE.ordinal()] = genreDays * 86_400;
+        halfLifeSeconds[PrefDimension.EMOTION.ordinal()] = emotionDays * 86_400;
+    }
+
+    public static long epochSecond(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public double halfLifeSeconds(long key) {
+        PrefDimension d = PrefKey.dimension(key);
+        return d == null ? Double.POSITIVE_INFINITY : halfLifeSeconds[d.ordinal()];
+    }
+
+    /** key 점수가 elapsedSeconds 동안 줄어드는 비율 (0~1] */
+    public double factor(long key, long elapsedSeconds) {
+        return factor(halfLifeSeconds(key), elapsedSeconds);
+    }
+
+    /** 경과 시간에 대한 차원별 감쇠 비율 표 (PrefDimension.ordinal 순). 요청마다 한 번만 계산 */
+    public double[] factors(long elapsedSeconds) {
+        double[] f = new double[halfLifeSeconds.length];
+        for (int i = 0; i < f.length; i++) {
+            f[i] = factor(halfLifeSeconds[i], elapsedSeconds);
+        }
+        return f;
+    }
+
+    private static double factor(double halfLife, long elapsedSeconds) {
+        if (elapsedSeconds <= 0 || Double.isInfinite(halfLife)) {
+            return 1.0;
+        }
+        return Math.pow(0.5, elapsedSeconds / halfLife);
+    }
+}
@@ -0,0 +1,241 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogOffsetStore;
+import com.HEJZ.HEJZ_back.global.eventlog.PendingOffsets;
+import com.HEJZ.HEJZ_back.global.util.LongDoubleHashMap;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 취향 점수 write-behind 버퍼
+ *
+ * 요청 스레드는 유저 id로 고른 stripe의 (userId, key) 맵에 증분을 합치기만 하고,
+ * 스케줄러가 주기적으로 stripe를 통째로 떼어 "score = 감쇠된 score + ?" 배치 upsert로 반영한다.
+ * (행 조회/낙관적 락 충돌 없음)
+ * 한 주기 안의 증분은 모두 flush 시각에 더해진 것으로 본다. (반감기에 비해 무시할 오차)
+ *
+ * - 배치 upsert는 한 트랜잭션. 실패하면 전부 롤백되므로 떼어 낸 증분을 그대로 되돌린다.
+ * - 떼어 낸 증분은 커밋될 때까지 in-flight로 pending에 계속 보인다. (캐시/인덱스를 비울 필요 없음)
+ * - flushSeq는 seqlock 카운터 (홀수: 반영 중). DB 값 + pending을 합치는 쪽(PrefReader)이 커밋 전후가 섞였는지 확인한다.
+ * - stripe마다 증분 순번(addSeq)을 매긴다. 스냅샷의 addSeq 이하 증분은 그 스냅샷에 이미 들어 있다.
+ *   (캐시/인덱스가 로드와 겹친 증분을 두 번 더하지 않도록)
+ * - 이벤트 로그 소비자가 넣은 증분(addLogged)은 소비자 오프셋을 같은 트랜잭션에 기록한다. (재전달 시 중복 반영 방지)
+ */
+@Slf4j
+@Component
+public class PrefDeltaBuffer {
+
+    private static final int STRIPES = 16;
+
+    // 기존 값은 마지막 갱신 이후 경과 시간만큼 감쇠한 뒤 더한다 (SET 순서 유지: score가 이전 시각을 읽음)
+    private static final String UPSERT_SQL = """
+            INSERT INTO user_pref_score (user_id, pref_key, score, score_updated_at, version, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 0, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE
+                score = score * POW(0.5, GREATEST(TIMESTAMPDIFF(SECOND, COALESCE(score_updated_at, updated_at), ?), 0) / ?) + ?,
+                score_updated_at = ?,
+                version = version + 1,
+                updated_at = NOW(6)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PrefDecay decay;
+    private final TransactionTemplate tx;
+    private final EventLogOffsetStore offsetStore;
+
+    private final Stripe[] stripes = newStripes();
+    private final PendingOffsets offsets = new PendingOffsets();
+    // addLogged(읽기) ↔ flush의 떼어 내기(쓰기): 떼어 간 오프셋의 증분이 전부 같은 flush에 들어가게
+    private final ReadWriteLock drainLock = new ReentrantReadWriteLock();
+    private volatile long flushSeq;
+
+    public PrefDeltaBuffer(JdbcTemplate jdbcTemplate, PrefDecay decay, PlatformTransactionManager txManager,
+            EventLogOffsetStore offsetStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.decay = decay;
+        this.tx = new TransactionTemplate(txManager);
+        this.offsetStore = offsetStore;
+    }
+
+    private static Stripe[] newStripes() {
+        Stripe[] s = new Stripe[STRIPES];
+        for (int i = 0; i < s.length; i++) {
+            s[i] = new Stripe();
+        }
+        return s;
+    }
+
+    // stripe 자체를 락으로 쓴다
+    private static final class Stripe {
+        Map<Long, LongDoubleHashMap> byUser = new HashMap<>(); // userId → (key → delta)
+        Map<Long, LongDoubleHashMap> inFlight = Map.of(); // 떼어 냈지만 아직 커밋 안 된 증분
+        long addSeq; // 이 stripe에 마지막으로 들어온 증분 순번
+    }
+
+    /** 유저의 반영 대기 증분과 그 시점의 flushSeq, stripe 증분 순번 */
+    public record Pending(LongDoubleHashMap deltas, boolean inFlight, long flushSeq, long addSeq) {
+    }
+
+    /** 증분 합치기 (커밋 이후에 호출할 것). 이 증분의 순번 */
+    public long add(Long userId, long key, double delta) {
+        Stripe s = stripe(userId);
+        synchronized (s) {
+            s.byUser.computeIfAbsent(userId, k -> new LongDoubleHashMap()).addTo(key, delta);
+            return ++s.addSeq;
+        }
+    }
+
+    /**
+     * 이벤트 로그 소비자용. seq까지의 이벤트에서 나온 증분(userId → key → delta)을 한 번에 넣는다.
+     * 이 증분을 반영하는 트랜잭션이 consumer의 오프셋도 seq로 기록한다.
+     *
+     * @return 유저별 증분 순번
+     */
+    public Map<Long, Long> addLogged(String consumer, long seq, Map<Long, LongDoubleHashMap> deltas) {
+        Map<Long, Long> addSeqs = new HashMap<>();
+        drainLock.readLock().lock();
+        try {
+            deltas.forEach((userId, keys) -> {
+                Stripe s = stripe(userId);
+                synchronized (s) {
+                    LongDoubleHashMap live = s.byUser.computeIfAbsent(userId, k -> new LongDoubleHashMap());
+                    keys.forEach(live::addTo);
+                    addSeqs.put(userId, ++s.addSeq);
+                }
+            });
+            offsets.advance(consumer, seq);
+        } finally {
+            drainLock.readLock().unlock();
+        }
+        return addSeqs;
+    }
+
+    /** 아직 DB에 반영되지 않은 유저 증분 (반영 중인 것 포함, 없으면 null, 복사본) */
+    public LongDoubleHashMap pending(Long userId) {
+        return snapshot(userId).deltas();
+    }
+
+    /** pending + 반영 중 여부 + flushSeq + 증분 순번을 stripe 락 안에서 한 번에 */
+    public Pending snapshot(Long userId) {
+        Stripe s = stripe(userId);
+        synchronized (s) {
+            LongDoubleHashMap live = s.byUser.get(userId);
+            LongDoubleHashMap flushing = s.inFlight.get(userId);
+            LongDoubleHashMap merged = null;
+            if (flushing != null) {
+                merged = flushing.copy();
+                if (live != null) {
+                    live.forEach(merged::addTo);
+                }
+            } else if (live != null) {
+                merged = live.copy();
+            }
+            return new Pending(merged, flushing != null, flushSeq, s.addSeq);
+        }
+    }
+
+    /** seqlock 카운터. 홀수면 반영 중 */
+    public long flushSeq() {
+        return flushSeq;
+    }
+
+    /** 쌓인 증분을 배치 upsert로 반영. 반영한 행 수 */
+    public synchronized int flush() {
+        // 홀수: 떼어 내기 전에 올려 두어야 그 사이 DB를 읽은 쪽이 겹침을 알아챈다
+        flushSeq++;
+        Map<String, Long> seqs;
+        Map<Long, LongDoubleHashMap> drained = new HashMap<>();
+        drainLock.writeLock().lock();
+        try {
+            seqs = offsets.take();
+            for (Stripe s : stripes) {
+                synchronized (s) {
+                    if (s.byUser.isEmpty()) {
+                        continue;
+                    }
+                    drained.putAll(s.byUser);
+                    s.inFlight = s.byUser;
+                    s.byUser = new HashMap<>();
+                }
+            }
+        } finally {
+            drainLock.writeLock().unlock();
+        }
+        if (drained.isEmpty() && seqs.isEmpty()) {
+            flushSeq++;
+            return 0;
+        }
+
+        Timestamp at = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>();
+        drained.forEach((userId, deltas) -> deltas.forEach((key, d) -> {
+            double halfLife = decay.halfLifeSeconds(key);
+            if (d != 0.0 && !Double.isInfinite(halfLife)) {
+                args.add(new Object[] { userId, key, d, at, at, halfLife, d, at });
+            }
+        }));
+
+        boolean committed = false;
+        try {
+            tx.executeWithoutResult(status -> {
+                if (!args.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+                }
+                offsetStore.save(seqs);
+            });
+            committed = true;
+        } catch (DataAccessException e) {
+            log.warn("취향 점수 반영 실패 ({}건): {}", args.size(), e.getMessage());
+        } finally {
+            // 짝수로 되돌린 뒤 in-flight를 내린다 (커밋 후 DB를 읽고 in-flight까지 더한 쪽도 다시 읽게)
+            flushSeq++;
+            settle(committed);
+            if (committed) {
+                offsetStore.markApplied(seqs);
+            } else {
+                offsets.restore(seqs);
+            }
+        }
+        return committed ? args.size() : 0;
+    }
+
+    // in-flight 정리. 롤백이면 버퍼로 되돌려 다음 주기에 재시도 (pending 합은 그대로)
+    private void settle(boolean committed) {
+        for (Stripe s : stripes) {
+            synchronized (s) {
+                if (!committed) {
+                    Map<Long, LongDoubleHashMap> live = s.byUser;
+                    s.inFlight.forEach((userId, deltas) -> deltas.forEach(
+                            (key, d) -> live.computeIfAbsent(userId, k -> new LongDoubleHashMap()).addTo(key, d)));
+                }
+                s.inFlight = Map.of();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int rows = flush();
+        log.info("종료 전 취향 점수 반영: {}건", rows);
+    }
+
+    private Stripe stripe(Long userId) {
+        return stripes[(int) Math.floorMod(userId, (long) STRIPES)];
+    }
+}
@@ -0,0 +1,76 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.stereotype.Component;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.entity.UserPrefScoreEntity;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.repository.UserPrefScoreRepository;
+import com.HEJZ.HEJZ_back.global.util.LongDoubleHashMap;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저 취향 점수의 현재 값 로드 (취향 캐시/top-K 인덱스 미스 로드용)
+ * DB 값을 now 시점으로 감쇠하고 PrefDeltaBuffer의 반영 대기 증분을 더한다.
+ *
+ * DB를 읽는 사이 그 유저의 증분이 커밋되면 증분이 빠지거나 두 번 더해질 수 있어,
+ * flushSeq(seqlock)로 겹침을 확인하고 다시 읽는다. 반영은 보통 수 ms라 몇 번이면 끝난다.
+ * 결과에는 합친 pending의 증분 순번(addSeq)을 붙여, 로드 이후 증분만 캐시/인덱스에 더하게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrefReader {
+
+    private static final int MAX_RETRIES = 20;
+    private static final long RETRY_WAIT_NANOS = 2_000_000L;
+
+    private final UserPrefScoreRepository repo;
+    private final PrefDeltaBuffer deltaBuffer;
+    private final PrefDecay decay;
+
+    /**
+     * 현재 점수와 그에 포함된 증분 순번
+     *
+     * @param rows   엔티티는 건드리지 않고 점수만 합친 사본 (score는 now 시점 값)
+     * @param addSeq 이 순번 이하 증분(PrefDeltaBuffer.add)은 rows에 이미 들어 있다
+     */
+    public record Loaded(List<UserPrefScoreEntity> rows, long addSeq) {
+    }
+
+    public Loaded load(Long userId, long now) {
+        List<UserPrefScoreEntity> rows;
+        PrefDeltaBuffer.Pending snapshot;
+        for (int attempt = 0;; attempt++) {
+            long seq = deltaBuffer.flushSeq();
+            rows = repo.findAllByUserId(userId);
+            snapshot = deltaBuffer.snapshot(userId);
+            // 같은 반영 구간 안에서 읽었고 이 유저 증분이 반영 중이 아니면 DB와 pending이 겹치지 않는다
+            if ((snapshot.flushSeq() == seq && !snapshot.inFlight()) || attempt == MAX_RETRIES) {
+                break;
+            }
+            LockSupport.parkNanos(RETRY_WAIT_NANOS);
+        }
+        LongDoubleHashMap pending = snapshot.deltas();
+
+        List<UserPrefScoreEntity> merged = new ArrayList<>(rows.size() + (pending == null ? 0 : pending.size()));
+        for (UserPrefScoreEntity r : rows) {
+            double score = r.getScore() * decay.factor(r.getKey(), now - PrefDecay.epochSecond(r.scoreTime()));
+            if (pending != null) {
+                score += pending.get(r.getKey(), 0.0);
+                pending.put(r.getKey(), 0.0);
+            }
+            merged.add(UserPrefScoreEntity.builder().userId(userId).key(r.getKey()).score(score).build());
+        }
+        if (pending != null) {
+            pending.forEach((key, delta) -> {
+                if (delta != 0.0) {
+                    merged.add(UserPrefScoreEntity.builder().userId(userId).key(key).score(delta).build());
+                }
+            });
+        }
+        return new Loaded(merged, snapshot.addSeq());
+    }
+}
@@ -1,10 +1,18 @@
 package com.HEJZ.HEJZ_back.domain.community.recommendation.service;
 
-import org.springframework.dao.DataIntegrityViolationException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefEntry;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
 import com.HEJZ.HEJZ_back.domain.community.recommendation.entity.UserPrefScoreEntity;
 import com.HEJZ.HEJZ_back.domain.community.recommendation.repository.UserPrefScoreRepository;
+import com.HEJZ.HEJZ_back.global.util.LongDoubleHashMap;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -13,32 +21,67 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PrefStoreService {
     private final UserPrefScoreRepository repo;
+    private final PrefCacheService prefCache;
+    private final PrefDeltaBuffer deltaBuffer;
+    private final PrefDecay decay;
+    private final PrefTopKIndex topKIndex;
 
-    @Transactional
-    public void add(Long userId, String key, double delta) {
-        try {
-            var e = repo.findByUserIdAndKey(userId, key)
-                    .orElseGet(() -> repo.save(UserPrefScoreEntity.builder()
-                            .userId(userId).key(key).score(0.0).build()));
-            e.setScore(e.getScore() + delta);
-            // JPA flush 시 유니크 충돌나면 캐치해서 재시도
-        } catch (DataIntegrityViolationException ex) {
-            // 경쟁 생성 레이스 → 다시 읽고 가산
-            var e = repo.findByUserIdAndKey(userId, key).orElseThrow();
-            e.setScore(e.getScore() + delta);
+    /**
+     * key는 PrefKey로 인코딩한 값. NONE(장르/감정 없음)이면 무시
+     * DB는 PrefDeltaBuffer가 배치로 반영하고, 여기서는 커밋 후 버퍼/캐시에 더하기만 한다.
+     */
+    public void add(Long userId, long key, double delta) {
+        if (key == PrefKey.NONE || delta == 0.0) {
+            return;
         }
+        // 커밋된 변경만 반영 (롤백 시 버퍼/캐시 오염 방지)
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, key, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(userId, key, delta);
+            }
+        });
     }
 
-    /** 현재 점수 가져오기(없으면 0) */
-    @Transactional
-    public double get(Long userId, String key) {
-        return repo.findByUserIdAndKey(userId, key).map(UserPrefScoreEntity::getScore).orElse(0.0);
+    /**
+     * 이벤트 로그 소비자용 (트랜잭션 밖에서 호출). seq까지의 이벤트에서 나온 증분을 한 번에 더한다.
+     * 버퍼가 이 증분과 consumer 오프셋을 같은 트랜잭션에 반영한다.
+     */
+    public void addLogged(String consumer, long seq, Map<Long, LongDoubleHashMap> deltas) {
+        Map<Long, Long> addSeqs = deltaBuffer.addLogged(consumer, seq, deltas);
+        deltas.forEach((userId, keys) -> {
+            long addSeq = addSeqs.get(userId);
+            keys.forEach((key, delta) -> {
+                prefCache.applyDelta(userId, key, delta, addSeq);
+                topKIndex.applyDelta(userId, key, delta, addSeq);
+            });
+        });
     }
 
-    /** 상위 K 키워드 */
+    // 버퍼에 먼저 넣고 순번을 받는다. 그 사이 로드된 캐시/인덱스 엔트리는 이미 이 증분을 담고 있어 건너뛴다.
+    private void apply(Long userId, long key, double delta) {
+        long addSeq = deltaBuffer.add(userId, key, delta);
+        prefCache.applyDelta(userId, key, delta, addSeq);
+        topKIndex.applyDelta(userId, key, delta, addSeq);
+    }
+
+    /** 현재 점수 가져오기(없으면 0, 현재 시각 감쇠 + 반영 대기 증분 포함) */
     @Transactional
-    public java.util.List<UserPrefScoreEntity> topK(Long userId, int k) {
-        var list = repo.findTop20ByUserIdOrderByScoreDesc(userId);
-        return list.size() <= k ? list : list.subList(0, k);
+    public double get(Long userId, long key) {
+        long now = PrefDecay.epochSecond(LocalDateTime.now());
+        double stored = repo.findByUserIdAndKey(userId, key)
+                .map(e -> e.getScore() * decay.factor(key, now - PrefDecay.epochSecond(e.scoreTime())))
+                .orElse(0.0);
+        var pending = deltaBuffer.pending(userId);
+        return pending == null ? stored : stored + pending.get(key, 0.0);
+    }
+
+    /** 상위 K 키워드 (현재 시각 감쇠 기준, K는 PrefTopKIndex.cap까지, 메모리 인덱스에서) */
+    public List<PrefEntry> topK(Long userId, int k) {
+        return topKIndex.topK(userId, k);
     }
 }
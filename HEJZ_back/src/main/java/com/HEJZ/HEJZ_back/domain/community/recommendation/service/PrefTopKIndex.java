@@ -0,0 +1,248 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefEntry;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.entity.UserPrefScoreEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 유저별 취향 상위 K 인덱스
+ *
+ * 차원(작성자/장르/감정)마다 크기 cap의 min-heap + key→slot 맵을 들고,
+ * PrefStoreService.add 커밋 시 증분으로 갱신한다. 미스면 PrefReader로 다시 만든다.
+ * (로드에 이미 들어간 증분은 PrefDeltaBuffer 순번으로 가려 건너뛴다)
+ * 같은 차원 키는 같은 비율로 감쇠하므로 힙 안 순서는 시간이 지나도 그대로고,
+ * 차원 간 병합 때만 요청 시각 감쇠 비율을 곱한다.
+ *
+ * 힙 밖 키 점수 상한(outsideMax)보다 힙 최소값이 작아지거나, 힙 밖 키 점수를 알 수 없게 되면
+ * 엔트리를 버리고 다음 조회에서 재구축한다.
+ */
+@Service
+public class PrefTopKIndex {
+
+    private static final int MAX_USERS = 50_000;
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(30);
+    private static final long MAX_REF_AGE_SECONDS = 24 * 60 * 60; // 기준 시각이 이보다 오래되면 재구축
+
+    private final PrefReader reader;
+    private final PrefDecay decay;
+    private final int cap;
+    private final Cache<Long, UserTopK> cache;
+
+    public PrefTopKIndex(PrefReader reader, PrefDecay decay,
+            @Value("${feed.pref.top-k-cap:100}") int cap) {
+        this.reader = reader;
+        this.decay = decay;
+        this.cap = cap;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_USERS)
+                .expireAfterAccess(IDLE_EXPIRY)
+                .build();
+    }
+
+    public int cap() {
+        return cap;
+    }
+
+    /** 전체 차원 상위 k개 (k는 cap까지) */
+    public List<PrefEntry> topK(Long userId, int k) {
+        return cache.get(userId, this::load).top(null, Math.min(k, cap), now(), decay);
+    }
+
+    /** 한 차원의 상위 k개 (후보 생성: 좋아하는 작성자/장르/감정) */
+    public List<PrefEntry> topK(Long userId, PrefDimension dimension, int k) {
+        return cache.get(userId, this::load).top(dimension, Math.min(k, cap), now(), decay);
+    }
+
+    /**
+     * 캐시에 있는 유저만 갱신. 정확성을 보장할 수 없으면 엔트리를 버린다.
+     *
+     * @param addSeq PrefDeltaBuffer가 이 증분에 매긴 순번 (로드 순번 이하면 이미 반영됨)
+     */
+    public void applyDelta(Long userId, long key, double delta, long addSeq) {
+        long now = now();
+        cache.asMap().computeIfPresent(userId,
+                (id, v) -> addSeq <= v.addSeq || v.apply(key, delta, now, decay) ? v : null);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private UserTopK load(Long userId) {
+        long now = now();
+        PrefReader.Loaded loaded = reader.load(userId, now);
+        UserTopK t = new UserTopK(now, cap, loaded.addSeq());
+        for (UserPrefScoreEntity r : loaded.rows()) {
+            t.offer(r.getKey(), r.getScore());
+        }
+        return t;
+    }
+
+    private static long now() {
+        return PrefDecay.epochSecond(LocalDateTime.now());
+    }
+
+    /** 유저 하나의 차원별 힙. 점수는 refEpochSec 시점 값, addSeq 이하 증분 포함 */
+    static final class UserTopK {
+        private final long refEpochSec;
+        private final long addSeq;
+        private final DimensionHeap[] heaps = new DimensionHeap[PrefDimension.values().length];
+
+        UserTopK(long refEpochSec, int cap, long addSeq) {
+            this.refEpochSec = refEpochSec;
+            this.addSeq = addSeq;
+            for (int i = 0; i < heaps.length; i++) {
+                heaps[i] = new DimensionHeap(cap);
+            }
+        }
+
+        // 재구축용: 힙 밖 키가 없는 상태에서 채운다
+        synchronized void offer(long key, double score) {
+            PrefDimension d = PrefKey.dimension(key);
+            if (d != null) {
+                heaps[d.ordinal()].insert(key, score);
+            }
+        }
+
+        synchronized boolean apply(long key, double delta, long nowEpochSec, PrefDecay decay) {
+            PrefDimension d = PrefKey.dimension(key);
+            if (d == null) {
+                return true;
+            }
+            long elapsed = nowEpochSec - refEpochSec;
+            if (elapsed > MAX_REF_AGE_SECONDS) {
+                return false;
+            }
+            return heaps[d.ordinal()].apply(key, delta / decay.factor(key, elapsed));
+        }
+
+        synchronized List<PrefEntry> top(PrefDimension only, int k, long nowEpochSec, PrefDecay decay) {
+            double[] factors = decay.factors(nowEpochSec - refEpochSec);
+            List<PrefEntry> all = new ArrayList<>();
+            for (PrefDimension d : PrefDimension.values()) {
+                if (only == null || only == d) {
+                    heaps[d.ordinal()].collect(factors[d.ordinal()], all);
+                }
+            }
+            all.sort(Comparator.comparingDouble(PrefEntry::score).reversed());
+            return all.size() <= k ? all : new ArrayList<>(all.subList(0, k));
+        }
+    }
+
+    /** 크기 cap의 min-heap (루트가 보관 중 최하위) + key → slot */
+    static final class DimensionHeap {
+        private final long[] keys;
+        private final double[] scores;
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private int size;
+        private double outsideMax = Double.NEGATIVE_INFINITY; // 힙 밖 키 점수 상한. -∞면 힙 밖 키 없음
+
+        DimensionHeap(int cap) {
+            this.keys = new long[cap];
+            this.scores = new double[cap];
+        }
+
+        /** 증분 반영. 상위 cap개임을 더 이상 보장할 수 없으면 false */
+        boolean apply(long key, double delta) {
+            Integer slot = slots.get(key);
+            if (slot != null) {
+                scores[slot] += delta;
+                fix(slot);
+                return scores[0] >= outsideMax;
+            }
+            if (outsideMax != Double.NEGATIVE_INFINITY) {
+                // 힙 밖 키의 이전 값을 모름: 올라가면 재구축.
+                // 내려가면 이전 값이 상한 이하였거나 처음 보는 키(0)였으므로 새 값은 max(상한, delta) 이하
+                if (delta > 0) {
+                    return false;
+                }
+                outsideMax = Math.max(outsideMax, delta);
+                return size == 0 || scores[0] >= outsideMax;
+            }
+            // 힙 밖 키가 없으면 처음 보는 키는 0에서 시작
+            insert(key, delta);
+            return true;
+        }
+
+        void insert(long key, double score) {
+            if (size < keys.length) {
+                set(size, key, score);
+                siftUp(size++);
+                return;
+            }
+            if (score <= scores[0]) {
+                outsideMax = Math.max(outsideMax, score);
+                return;
+            }
+            outsideMax = Math.max(outsideMax, scores[0]);
+            slots.remove(keys[0]);
+            set(0, key, score);
+            siftDown(0);
+        }
+
+        void collect(double factor, List<PrefEntry> out) {
+            for (int i = 0; i < size; i++) {
+                out.add(new PrefEntry(keys[i], scores[i] * factor));
+            }
+        }
+
+        private void fix(int i) {
+            siftUp(i);
+            siftDown(i);
+        }
+
+        private void set(int i, long key, double score) {
+            keys[i] = key;
+            scores[i] = score;
+            slots.put(key, i);
+        }
+
+        private void swap(int a, int b) {
+            long k = keys[a];
+            double s = scores[a];
+            set(a, keys[b], scores[b]);
+            set(b, k, s);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[i] >= scores[parent]) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int right = left + 1;
+                int min = (right < size && scores[right] < scores[left]) ? right : left;
+                if (scores[min] >= scores[i]) {
+                    break;
+                }
+                swap(i, min);
+                i = min;
+            }
+        }
+    }
+}
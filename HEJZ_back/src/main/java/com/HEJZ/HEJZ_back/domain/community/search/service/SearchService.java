@@ -2,12 +2,11 @@ package com.HEJZ.HEJZ_back.domain.community.search.service;
 
 import java.util.List;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
-import com.HEJZ.HEJZ_back.domain.community.feed.service.FeedService;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.FeedHydrator;
 import com.HEJZ.HEJZ_back.domain.community.search.dto.SearchScope;
 import com.HEJZ.HEJZ_back.domain.community.user.repository.UserRepository;
 import com.HEJZ.HEJZ_back.global.response.ApiResponse;
@@ -20,9 +19,7 @@ public class SearchService {
 
     private final FeedRepository feedRepository;
     private final UserRepository userRepository;
-
-    @Autowired
-    private FeedService feedService;
+    private final FeedHydrator feedHydrator;
 
     public ApiResponse<Object> search(String username, String keyword, SearchScope scope, int limit) {
 
@@ -40,9 +37,7 @@ public class SearchService {
                 keyword, viewerId, scope == SearchScope.FOLLOWING,
                 PageRequest.of(0, clamp(limit, 1, 100)));
 
-        var dtos = feeds.stream()
-                .map(feedService::toDto)
-                .toList();
+        var dtos = feedHydrator.toItems(feeds);
 
         if (dtos.isEmpty()) {
             return new ApiResponse<>(404, dtos, "검색 결과가 없습니다.");
@@ -1,5 +1,7 @@
 package com.HEJZ.HEJZ_back.domain.community.user.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,6 +17,10 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     @Query("select u.id from UserEntity u where u.username = :username")
     Long findIdByUsername(@Param("username") String username);
 
+    // 작성자 이름 일괄 조회 (id, username)
+    @Query("select u.id, u.username from UserEntity u where u.id in :ids")
+    List<Object[]> findUsernamesByIdIn(@Param("ids") Collection<Long> ids);
+
     public Optional<UserEntity> findById(Long id);
 
     public UserEntity findByUsername(String username);
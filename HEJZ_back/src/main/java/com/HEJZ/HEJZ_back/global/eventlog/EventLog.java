@@ -0,0 +1,342 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 도메인 이벤트 로그 (append-only, mmap 세그먼트)
+ *
+ * 세그먼트 파일: {dir}/{첫 seq 20자리}.log, 크기 고정(segment-bytes)
+ * 레코드: [int 길이][long seq][byte 타입][payload][int crc32(seq..payload)]
+ * 길이 0은 아직 안 쓴 영역, -1은 세그먼트 끝(다음 파일로 넘어감).
+ *
+ * 쓰기는 한 스레드씩(synchronized), 읽기는 락 없이 발행된 끝 위치(volatile)까지만 읽는다.
+ * 디스크 반영은 flush()에서 모아서 한다. (EventLogDispatcher가 주기적으로 호출)
+ */
+@Slf4j
+@Component
+public class EventLog {
+
+    private static final int HEADER = 4 + 8 + 1; // 길이 + seq + 타입
+    private static final int TRAILER = 4; // crc
+    private static final int ROLLED = -1;
+    private static final String SUFFIX = ".log";
+
+    private final Path dir;
+    private final int segmentBytes;
+
+    // 첫 seq → 세그먼트
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active;
+    private long nextSeq = 1;
+
+    // 읽기 쪽에 공개된 마지막 seq (이 값까지 쓴 바이트는 읽어도 안전)
+    private volatile long lastSeq;
+
+    public EventLog(@Value("${eventlog.dir:./data/eventlog}") String dir,
+            @Value("${eventlog.segment-bytes:67108864}") int segmentBytes) {
+        this.dir = Path.of(dir);
+        this.segmentBytes = segmentBytes;
+    }
+
+    @PostConstruct
+    public void open() {
+        try {
+            Files.createDirectories(dir);
+            List<Long> firstSeqs = new ArrayList<>();
+            try (Stream<Path> files = Files.list(dir)) {
+                files.map(p -> p.getFileName().toString())
+                        .filter(n -> n.endsWith(SUFFIX))
+                        .forEach(n -> firstSeqs.add(Long.parseLong(n.substring(0, n.length() - SUFFIX.length()))));
+            }
+            firstSeqs.sort(null);
+            for (long first : firstSeqs) {
+                segments.put(first, Segment.map(segmentPath(first), first, segmentBytes));
+            }
+            if (segments.isEmpty()) {
+                active = newSegment(1);
+            } else {
+                active = segments.lastEntry().getValue();
+                recover(active);
+            }
+            lastSeq = nextSeq - 1;
+            log.info("이벤트 로그 열림: dir={}, 세그먼트 {}개, lastSeq={}", dir.toAbsolutePath(), segments.size(), lastSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 로그를 열 수 없습니다: " + dir, e);
+        }
+    }
+
+    // 마지막 세그먼트를 앞에서부터 검증하며 끝 위치를 찾는다. 깨진 꼬리(쓰다 죽은 레코드)는 0으로 지운다.
+    // 깨진 레코드 안에도 0 바이트가 있을 수 있으므로 끝 위치 뒤에서 0이 아닌 마지막 바이트까지 지운다.
+    private void recover(Segment segment) {
+        MappedByteBuffer buf = segment.buffer;
+        int pos = 0;
+        long seq = segment.firstSeq;
+        while (true) {
+            int len = recordLength(buf, pos);
+            if (len <= 0 || !valid(buf, pos, len, seq)) {
+                break;
+            }
+            pos += HEADER + len + TRAILER;
+            seq++;
+        }
+        int dirtyEnd = pos;
+        for (int i = pos; i < segmentBytes; i++) {
+            if (buf.get(i) != 0) {
+                dirtyEnd = i + 1;
+            }
+        }
+        for (int i = pos; i < dirtyEnd; i++) {
+            buf.put(i, (byte) 0);
+        }
+        if (dirtyEnd > pos) {
+            buf.force();
+            log.warn("이벤트 로그 깨진 꼬리 정리: {} {}..{}", segment.path.getFileName(), pos, dirtyEnd);
+        }
+        segment.end = pos;
+        nextSeq = seq;
+    }
+
+    /** 이벤트 추가. 부여된 seq 반환 */
+    public synchronized long append(Object event) {
+        byte type = EventLogCodec.typeOf(event);
+        byte[] payload = EventLogCodec.encode(event);
+        int size = HEADER + payload.length + TRAILER;
+        if (size + 4 > segmentBytes) {
+            throw new IllegalArgumentException("이벤트가 세그먼트보다 큽니다: " + size);
+        }
+        // 남은 공간 + 다음 레코드 길이 칸(롤 표시용 4바이트)이 없으면 다음 세그먼트로
+        if (active.end + size + 4 > segmentBytes) {
+            active.buffer.putInt(active.end, ROLLED);
+            active = newSegment(nextSeq);
+        }
+
+        long seq = nextSeq++;
+        MappedByteBuffer buf = active.buffer;
+        int pos = active.end;
+        buf.putLong(pos + 4, seq);
+        buf.put(pos + 12, type);
+        buf.put(pos + HEADER, payload);
+        buf.putInt(pos + HEADER + payload.length, crc(buf, pos, payload.length));
+        // 길이를 마지막에 써서 쓰다 죽으면 recover가 0(빈 칸)으로 본다
+        buf.putInt(pos, payload.length);
+        active.end = pos + size;
+        active.dirty = true;
+        lastSeq = seq;
+        return seq;
+    }
+
+    public long lastSeq() {
+        return lastSeq;
+    }
+
+    /** 보존 중인 가장 오래된 seq (로그가 비었으면 lastSeq + 1) */
+    public long firstSeq() {
+        Map.Entry<Long, Segment> first = segments.firstEntry();
+        return (first == null) ? lastSeq + 1 : first.getKey();
+    }
+
+    /**
+     * cursor 다음 이벤트를 최대 max개 읽는다. cursor는 읽은 만큼 전진한다.
+     * 보존 범위보다 앞을 가리키면 남아 있는 가장 오래된 이벤트부터 읽는다.
+     */
+    public List<LoggedEvent> read(Cursor cursor, int max) {
+        long upTo = lastSeq; // volatile read: 여기까지의 바이트는 보인다
+        List<LoggedEvent> out = new ArrayList<>(Math.min(max, 64));
+        while (out.size() < max && cursor.nextSeq <= upTo) {
+            if (cursor.segment == null || !segments.containsKey(cursor.segment.firstSeq)) {
+                seek(cursor);
+            }
+            MappedByteBuffer buf = cursor.segment.buffer;
+            int len = recordLength(buf, cursor.position);
+            if (len == ROLLED) {
+                cursor.segment = segments.higherEntry(cursor.segment.firstSeq).getValue();
+                cursor.position = 0;
+                continue;
+            }
+            long seq = buf.getLong(cursor.position + 4);
+            if (len <= 0 || seq != cursor.nextSeq || !valid(buf, cursor.position, len, seq)) {
+                throw new IllegalStateException("이벤트 로그 손상: seq=" + cursor.nextSeq);
+            }
+            out.add(new LoggedEvent(seq, decode(buf, cursor.position, len)));
+            cursor.position += HEADER + len + TRAILER;
+            cursor.nextSeq++;
+        }
+        return out;
+    }
+
+    // cursor.nextSeq가 든 세그먼트를 찾아 레코드 단위로 건너뛴다 (재시작 직후 한 번)
+    private void seek(Cursor cursor) {
+        long target = Math.max(cursor.nextSeq, firstSeq());
+        Segment segment = segments.floorEntry(target).getValue();
+        int pos = 0;
+        long seq = segment.firstSeq;
+        while (seq < target) {
+            int len = recordLength(segment.buffer, pos);
+            if (len == ROLLED) {
+                segment = segments.higherEntry(segment.firstSeq).getValue();
+                pos = 0;
+                continue;
+            }
+            pos += HEADER + len + TRAILER;
+            seq++;
+        }
+        cursor.segment = segment;
+        cursor.position = pos;
+        cursor.nextSeq = target;
+    }
+
+    /** 쓴 내용을 디스크에 반영 (그룹 커밋) */
+    public void flush() {
+        for (Segment segment : segments.values()) {
+            if (segment.dirty) {
+                segment.dirty = false;
+                segment.buffer.force();
+            }
+        }
+    }
+
+    /**
+     * upToSeq까지 모든 소비자가 처리했으면, 그 범위만 담긴 세그먼트 파일을 지운다 (활성 세그먼트 제외)
+     * 매핑을 먼저 풀어야 파일 공간이 GC를 기다리지 않고 바로 돌아온다.
+     * 지운 세그먼트를 가리키던 Cursor는 read()에서 seek으로 다시 찾으므로 풀린 버퍼를 읽지 않는다.
+     */
+    public synchronized void deleteUpTo(long upToSeq) {
+        while (segments.size() > 1) {
+            Map.Entry<Long, Segment> first = segments.firstEntry();
+            Long nextFirst = segments.higherKey(first.getKey());
+            if (nextFirst == null || nextFirst - 1 > upToSeq) {
+                return;
+            }
+            segments.remove(first.getKey());
+            unmap(first.getValue().buffer);
+            try {
+                Files.deleteIfExists(first.getValue().path);
+                log.info("이벤트 로그 세그먼트 삭제: {}", first.getValue().path.getFileName());
+            } catch (IOException e) {
+                log.warn("이벤트 로그 세그먼트 삭제 실패: {}", first.getValue().path, e);
+            }
+        }
+    }
+
+    Path dir() {
+        return dir;
+    }
+
+    // JDK 17에는 공개 unmap API가 없어 Unsafe.invokeCleaner를 쓴다. 못 쓰면 GC가 풀 때까지 둔다
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("이벤트 로그 세그먼트 unmap 실패 (GC 후 해제): {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        flush();
+    }
+
+    private Segment newSegment(long firstSeq) {
+        try {
+            Segment segment = Segment.map(segmentPath(firstSeq), firstSeq, segmentBytes);
+            segments.put(firstSeq, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 로그 세그먼트를 만들 수 없습니다: " + firstSeq, e);
+        }
+    }
+
+    private Path segmentPath(long firstSeq) {
+        return dir.resolve(String.format("%020d%s", firstSeq, SUFFIX));
+    }
+
+    private int recordLength(MappedByteBuffer buf, int pos) {
+        return (pos + 4 > segmentBytes) ? 0 : buf.getInt(pos);
+    }
+
+    private boolean valid(MappedByteBuffer buf, int pos, int len, long expectedSeq) {
+        if (pos + HEADER + len + TRAILER > segmentBytes) {
+            return false;
+        }
+        return buf.getLong(pos + 4) == expectedSeq
+                && buf.getInt(pos + HEADER + len) == crc(buf, pos, len);
+    }
+
+    private static int crc(MappedByteBuffer buf, int pos, int len) {
+        CRC32 crc = new CRC32();
+        crc.update(buf.slice(pos + 4, 8 + 1 + len));
+        return (int) crc.getValue();
+    }
+
+    private static Object decode(MappedByteBuffer buf, int pos, int len) {
+        byte[] payload = new byte[len];
+        buf.get(pos + HEADER, payload);
+        try {
+            return EventLogCodec.decode(buf.get(pos + 12), new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch (IOException e) {
+            throw new IllegalStateException("이벤트 디코딩 실패", e);
+        }
+    }
+
+    /** 소비자별 읽기 위치. seq와 함께 세그먼트/바이트 위치를 들고 있어 매번 스캔하지 않는다. */
+    public static final class Cursor {
+        private long nextSeq;
+        private Segment segment;
+        private int position;
+
+        public Cursor(long nextSeq) {
+            this.nextSeq = nextSeq;
+        }
+
+        public long nextSeq() {
+            return nextSeq;
+        }
+    }
+
+    private static final class Segment {
+        final Path path;
+        final long firstSeq;
+        final MappedByteBuffer buffer;
+        int end; // 활성 세그먼트의 쓰기 위치 (append 스레드만 사용)
+        volatile boolean dirty;
+
+        private Segment(Path path, long firstSeq, MappedByteBuffer buffer) {
+            this.path = path;
+            this.firstSeq = firstSeq;
+            this.buffer = buffer;
+        }
+
+        static Segment map(Path path, long firstSeq, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new Segment(path, firstSeq, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedCreatedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedDeletedEvent;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.FollowedEvent;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.UnfollowedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedUnlikedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋된 도메인 이벤트만 이벤트 로그에 기록한다. (롤백된 좋아요/팔로우는 소비자에게 가지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class EventLogAppender {
+
+    private final EventLog eventLog;
+
+    @TransactionalEventListener
+    public void onFeedCreated(FeedCreatedEvent e) {
+        eventLog.append(e);
+    }
+
+    @TransactionalEventListener
+    public void onFeedDeleted(FeedDeletedEvent e) {
+        eventLog.append(e);
+    }
+
+    @TransactionalEventListener
+    public void onFollowed(FollowedEvent e) {
+        eventLog.append(e);
+    }
+
+    @TransactionalEventListener
+    public void onUnfollowed(UnfollowedEvent e) {
+        eventLog.append(e);
+    }
+
+    @TransactionalEventListener
+    public void onFeedLiked(FeedLikedEvent e) {
+        eventLog.append(e);
+    }
+
+    @TransactionalEventListener
+    public void onFeedUnliked(FeedUnlikedEvent e) {
+        eventLog.append(e);
+    }
+}
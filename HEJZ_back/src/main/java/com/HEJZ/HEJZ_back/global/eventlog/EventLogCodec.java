@@ -0,0 +1,98 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedCreatedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.event.FeedDeletedEvent;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.FollowedEvent;
+import com.HEJZ.HEJZ_back.domain.community.follow.event.UnfollowedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedUnlikedEvent;
+
+/**
+ * 도메인 이벤트 ↔ 로그 레코드 바이너리 변환
+ * 타입 코드는 파일에 남으므로 바꾸거나 재사용하지 말고 새 코드만 추가할 것.
+ */
+final class EventLogCodec {
+
+    static final byte FEED_CREATED = 1;
+    static final byte FEED_DELETED = 2;
+    static final byte FOLLOWED = 3;
+    static final byte UNFOLLOWED = 4;
+    static final byte FEED_LIKED = 5;
+    static final byte FEED_UNLIKED = 6;
+
+    private EventLogCodec() {
+    }
+
+    static byte typeOf(Object event) {
+        if (event instanceof FeedCreatedEvent) {
+            return FEED_CREATED;
+        } else if (event instanceof FeedDeletedEvent) {
+            return FEED_DELETED;
+        } else if (event instanceof FollowedEvent) {
+            return FOLLOWED;
+        } else if (event instanceof UnfollowedEvent) {
+            return UNFOLLOWED;
+        } else if (event instanceof FeedLikedEvent) {
+            return FEED_LIKED;
+        } else if (event instanceof FeedUnlikedEvent) {
+            return FEED_UNLIKED;
+        }
+        throw new IllegalArgumentException("로그에 쓸 수 없는 이벤트: " + event.getClass().getName());
+    }
+
+    static byte[] encode(Object event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(48);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (event instanceof FeedCreatedEvent e) {
+                out.writeLong(e.feedId());
+                out.writeLong(e.authorId());
+                out.writeLong(e.createdAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(e.createdAt().getNano());
+                out.writeInt(e.genreId());
+                out.writeInt(e.emotionId());
+            } else if (event instanceof FeedDeletedEvent e) {
+                out.writeLong(e.feedId());
+                out.writeLong(e.authorId());
+            } else if (event instanceof FollowedEvent e) {
+                out.writeLong(e.followerId());
+                out.writeLong(e.followingId());
+            } else if (event instanceof UnfollowedEvent e) {
+                out.writeLong(e.followerId());
+                out.writeLong(e.followingId());
+            } else if (event instanceof FeedLikedEvent e) {
+                out.writeLong(e.userId());
+                out.writeLong(e.feedId());
+            } else if (event instanceof FeedUnlikedEvent e) {
+                out.writeLong(e.userId());
+                out.writeLong(e.feedId());
+            } else {
+                throw new IllegalArgumentException("로그에 쓸 수 없는 이벤트: " + event.getClass().getName());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Object decode(byte type, DataInputStream in) throws IOException {
+        return switch (type) {
+            case FEED_CREATED -> new FeedCreatedEvent(in.readLong(), in.readLong(),
+                    LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC),
+                    in.readInt(), in.readInt());
+            case FEED_DELETED -> new FeedDeletedEvent(in.readLong(), in.readLong());
+            case FOLLOWED -> new FollowedEvent(in.readLong(), in.readLong());
+            case UNFOLLOWED -> new UnfollowedEvent(in.readLong(), in.readLong());
+            case FEED_LIKED -> new FeedLikedEvent(in.readLong(), in.readLong());
+            case FEED_UNLIKED -> new FeedUnlikedEvent(in.readLong(), in.readLong());
+            default -> throw new IOException("알 수 없는 이벤트 타입: " + type);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import java.util.List;
+
+/**
+ * 이벤트 로그 소비자
+ * 각자 오프셋을 따로 가지고 배치로 읽는다. 재시작하면 마지막으로 커밋한 오프셋 다음부터 이어 읽는다.
+ * 처리 후 오프셋 커밋 전에 죽거나 실패한 배치를 건별로 재시도하면 같은 이벤트를 다시 받을 수 있다. (at-least-once)
+ * 효과가 멱등이 아닌 소비자는 EventLogOffsetStore에 반영 위치를 기록하고 그 이하를 건너뛸 것.
+ */
+public interface EventLogConsumer {
+
+    /** 오프셋 파일 이름으로 쓰므로 바꾸지 말 것 */
+    String name();
+
+    void handle(List<LoggedEvent> batch);
+
+    /**
+     * handledSeq까지 handle()을 마쳤을 때, 재시작 후 다시 받지 않아도 되는 마지막 seq.
+     * 처리 결과를 버퍼에 모았다가 나중에 반영하는 소비자는 DB에 커밋된 위치까지만 돌려준다.
+     */
+    default long durableSeq(long handledSeq) {
+        return handledSeq;
+    }
+}
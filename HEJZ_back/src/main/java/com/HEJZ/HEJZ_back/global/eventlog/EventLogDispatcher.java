@@ -0,0 +1,162 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트 로그 → 소비자 배치 전달
+ * 소비자마다 오프셋 파일({dir}/offsets/{name}.offset, 재시작 후 다시 받지 않아도 되는 seq)을 따로 둔다.
+ * 오프셋은 소비자가 durable하다고 알려 준 위치(durableSeq)까지만 커밋하므로,
+ * 버퍼에 모았다가 반영하는 소비자도 DB 커밋 전에 죽으면 그 이벤트를 재시작 후 다시 받는다.
+ */
+@Slf4j
+@Component
+public class EventLogDispatcher {
+
+    private final EventLog eventLog;
+    private final EventLogOffsetStore offsetStore;
+    private final List<ConsumerState> consumers = new ArrayList<>();
+    private final Path offsetDir;
+    private final int batchSize;
+
+    public EventLogDispatcher(EventLog eventLog, EventLogOffsetStore offsetStore, List<EventLogConsumer> consumers,
+            @Value("${eventlog.batch-size:500}") int batchSize) {
+        this.eventLog = eventLog;
+        this.offsetStore = offsetStore;
+        this.offsetDir = eventLog.dir().resolve("offsets");
+        this.batchSize = batchSize;
+        for (EventLogConsumer consumer : consumers) {
+            this.consumers.add(new ConsumerState(consumer));
+        }
+    }
+
+    @PostConstruct
+    public void loadOffsets() {
+        try {
+            Files.createDirectories(offsetDir);
+            // 로그를 새로 만들어 seq가 다시 시작했으면 DB의 반영 위치도 버린다 (새 이벤트를 건너뛰지 않게)
+            int reset = offsetStore.resetAbove(eventLog.lastSeq());
+            if (reset > 0) {
+                log.warn("이벤트 로그보다 앞선 DB 반영 위치 {}건 초기화 (lastSeq={})", reset, eventLog.lastSeq());
+            }
+            for (ConsumerState state : consumers) {
+                Path file = offsetFile(state.consumer.name());
+                // 오프셋이 없는 새 소비자는 보존 중인 처음부터 읽는다
+                long committed = Files.exists(file)
+                        ? Long.parseLong(Files.readString(file, StandardCharsets.UTF_8).trim())
+                        : eventLog.firstSeq() - 1;
+                state.durable = committed;
+                state.cursor = new EventLog.Cursor(committed + 1);
+                log.info("이벤트 로그 소비자 {}: offset={}, lastSeq={}", state.consumer.name(), committed,
+                        eventLog.lastSeq());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 로그 오프셋을 읽을 수 없습니다", e);
+        }
+    }
+
+    // 짧은 주기로 디스크 반영 후 소비자별로 밀린 만큼 배치 전달
+    @Scheduled(fixedDelay = 100)
+    public synchronized void dispatch() {
+        eventLog.flush();
+        long minCommitted = Long.MAX_VALUE;
+        for (ConsumerState state : consumers) {
+            drain(state);
+            minCommitted = Math.min(minCommitted, state.durable);
+        }
+        if (!consumers.isEmpty()) {
+            eventLog.deleteUpTo(minCommitted);
+        }
+    }
+
+    private void drain(ConsumerState state) {
+        while (state.cursor.nextSeq() <= eventLog.lastSeq()) {
+            long from = state.cursor.nextSeq();
+            List<LoggedEvent> batch = eventLog.read(state.cursor, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            if (!handle(state.consumer, batch)) {
+                // 다음 주기에 같은 위치부터 재시도
+                state.cursor = new EventLog.Cursor(from);
+                break;
+            }
+        }
+        // 처리한 위치가 아니라 소비자가 반영을 마친 위치까지만 커밋 (뒤로 가지는 않음)
+        long handled = state.cursor.nextSeq() - 1;
+        long durable = Math.min(handled, state.consumer.durableSeq(handled));
+        if (durable > state.durable) {
+            commit(state, durable);
+        }
+    }
+
+    // 배치가 실패하면 하나씩 다시 처리해서, 계속 실패하는 이벤트만 로그를 남기고 건너뛴다
+    private boolean handle(EventLogConsumer consumer, List<LoggedEvent> batch) {
+        try {
+            consumer.handle(batch);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("이벤트 배치 처리 실패, 건별 재시도: consumer={}, seq={}..{}", consumer.name(),
+                    batch.get(0).seq(), batch.get(batch.size() - 1).seq(), e);
+        }
+        for (LoggedEvent event : batch) {
+            try {
+                consumer.handle(List.of(event));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    return false;
+                }
+                log.error("이벤트 처리 실패로 건너뜀: consumer={}, seq={}, event={}", consumer.name(),
+                        event.seq(), event.event(), e);
+            }
+        }
+        return true;
+    }
+
+    // DB 연결 문제 같은 일시 장애는 건너뛰지 않고 다음 주기에 재시도
+    private boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof CannotCreateTransactionException;
+    }
+
+    private void commit(ConsumerState state, long seq) {
+        Path file = offsetFile(state.consumer.name());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.writeString(tmp, Long.toString(seq), StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            state.durable = seq;
+        } catch (IOException e) {
+            // 다음 주기에 다시 커밋한다. durable이 그대로라 해당 세그먼트는 지우지 않는다
+            log.warn("이벤트 로그 오프셋 커밋 실패: consumer={}, seq={}", state.consumer.name(), seq, e);
+        }
+    }
+
+    private Path offsetFile(String name) {
+        return offsetDir.resolve(name + ".offset");
+    }
+
+    private static final class ConsumerState {
+        final EventLogConsumer consumer;
+        long durable; // 오프셋 파일에 기록된 seq (세그먼트 삭제 기준)
+        EventLog.Cursor cursor; // 다음에 읽을 위치
+
+        ConsumerState(EventLogConsumer consumer) {
+            this.consumer = consumer;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트 로그 소비자별 DB 반영 위치
+ * 버퍼(CounterBuffer, PrefDeltaBuffer)가 증분 배치와 같은 트랜잭션에서 갱신한다. (EventLogOffsetStore)
+ */
+@Entity
+@Table(name = "event_log_offsets")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventLogOffsetEntity {
+    @Id
+    @Column(length = 64)
+    private String consumer;
+
+    @Column(nullable = false)
+    private Long seq; // 이 seq까지의 증분이 DB에 커밋됨
+}
@@ -0,0 +1,65 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소비자별 "DB에 반영된 마지막 seq" (event_log_offsets)
+ *
+ * 증분을 버퍼에 모았다가 반영하는 소비자는 오프셋 파일만으로는 정확히 한 번을 지킬 수 없다.
+ * (반영 후 파일 커밋 전에 죽거나, 배치 재시도로 같은 이벤트를 다시 받으면 두 번 더해진다)
+ * 그래서 버퍼가 증분 배치와 같은 트랜잭션에서 seq를 기록하고, 소비자는 이 값 이하의 이벤트를 건너뛴다.
+ */
+@Component
+public class EventLogOffsetStore {
+
+    private static final String SELECT_SQL = "SELECT seq FROM event_log_offsets WHERE consumer = ?";
+    private static final String UPDATE_SQL = "UPDATE event_log_offsets SET seq = ? WHERE consumer = ?";
+    private static final String INSERT_SQL = "INSERT INTO event_log_offsets (consumer, seq) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 커밋된 값 캐시 (처음 조회 시 DB에서 읽음)
+    private final Map<String, Long> applied = new ConcurrentHashMap<>();
+
+    public EventLogOffsetStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** DB에 커밋된 마지막 seq (기록이 없으면 0) */
+    public long appliedSeq(String consumer) {
+        return applied.computeIfAbsent(consumer, this::load);
+    }
+
+    private long load(String consumer) {
+        List<Long> rows = jdbcTemplate.queryForList(SELECT_SQL, Long.class, consumer);
+        return rows.isEmpty() ? 0L : rows.get(0);
+    }
+
+    /** 호출한 쪽 트랜잭션 안에서 기록 (증분 배치와 함께 커밋/롤백). 커밋 후 markApplied를 부를 것 */
+    public void save(Map<String, Long> seqs) {
+        seqs.forEach((consumer, seq) -> {
+            if (jdbcTemplate.update(UPDATE_SQL, seq, consumer) == 0) {
+                jdbcTemplate.update(INSERT_SQL, consumer, seq);
+            }
+        });
+    }
+
+    public void markApplied(Map<String, Long> seqs) {
+        seqs.forEach((consumer, seq) -> applied.merge(consumer, seq, Math::max));
+    }
+
+    /**
+     * 로그보다 앞선 기록을 지운다. (로그 디렉터리를 새로 만들어 seq가 1부터 다시 시작한 경우)
+     * 그대로 두면 새 이벤트를 이미 반영한 것으로 보고 건너뛴다.
+     */
+    public int resetAbove(long lastSeq) {
+        int rows = jdbcTemplate.update("DELETE FROM event_log_offsets WHERE seq > ?", lastSeq);
+        applied.clear();
+        return rows;
+    }
+}
@@ -0,0 +1,10 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+/**
+ * 이벤트 로그에서 읽은 이벤트
+ *
+ * @param seq   로그 순번 (1부터 단조 증가)
+ * @param event 도메인 이벤트 (EventLogCodec이 지원하는 record)
+ */
+public record LoggedEvent(long seq, Object event) {
+}
@@ -0,0 +1,35 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 버퍼가 넘겨받은 소비자별 마지막 seq (아직 DB에 반영 전)
+ * flush가 증분과 함께 떼어 가서 같은 트랜잭션에 기록하고, 실패하면 되돌린다.
+ */
+public final class PendingOffsets {
+
+    private final Map<String, Long> seqs = new ConcurrentHashMap<>();
+
+    public void advance(String consumer, long seq) {
+        seqs.merge(consumer, seq, Math::max);
+    }
+
+    /** 지금까지 쌓인 값을 떼어 간다 */
+    public Map<String, Long> take() {
+        Map<String, Long> taken = new HashMap<>();
+        for (String consumer : seqs.keySet()) {
+            Long seq = seqs.remove(consumer);
+            if (seq != null) {
+                taken.put(consumer, seq);
+            }
+        }
+        return taken;
+    }
+
+    /** 반영 실패로 떼어 간 값을 되돌린다 */
+    public void restore(Map<String, Long> taken) {
+        taken.forEach(this::advance);
+    }
+}
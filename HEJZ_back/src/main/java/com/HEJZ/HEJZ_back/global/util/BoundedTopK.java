@@ -0,0 +1,166 @@
+package com.HEJZ.HEJZ_back.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 상위 K개만 유지하는 고정 크기 min-heap.
+ * 점수/시각/id는 primitive 배열에 담아 offer 시 객체를 만들지 않는다.
+ *
+ * 정렬 기준: score desc → time desc → id desc (루트가 현재 K개 중 최하위)
+ */
+public final class BoundedTopK<T> {
+
+    private final int capacity;
+    private final double[] scores;
+    private final long[] times;
+    private final long[] ids;
+    private final Object[] payloads;
+    private int size;
+
+    public BoundedTopK(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.scores = new double[capacity];
+        this.times = new long[capacity];
+        this.ids = new long[capacity];
+        this.payloads = new Object[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    /** 현재 K번째(최하위) 점수. 가득 차지 않았으면 -∞ */
+    public double minScore() {
+        return isFull() ? scores[0] : Double.NEGATIVE_INFINITY;
+    }
+
+    /** 후보 추가. 상위 K에 들어가면 true */
+    public boolean offer(double score, long time, long id, T payload) {
+        if (size < capacity) {
+            set(size, score, time, id, payload);
+            siftUp(size++);
+            return true;
+        }
+        // 루트(최하위)보다 나을 때만 교체
+        if (compare(score, time, id, scores[0], times[0], ids[0]) <= 0) {
+            return false;
+        }
+        set(0, score, time, id, payload);
+        siftDown(0);
+        return true;
+    }
+
+    /** 좋은 순서대로 payload를 꺼낸다. 호출 후 힙은 비워진다. */
+    @SuppressWarnings("unchecked")
+    public List<T> drainSorted() {
+        int n = size;
+        Object[] out = new Object[n];
+        for (int i = n - 1; i >= 0; i--) {
+            out[i] = payloads[0];
+            int last = --size;
+            set(0, scores[last], times[last], ids[last], payloads[last]);
+            payloads[last] = null;
+            if (size > 0) {
+                siftDown(0);
+            }
+        }
+        List<T> result = new ArrayList<>(n);
+        for (Object o : out) {
+            result.add((T) o);
+        }
+        return result;
+    }
+
+    /** 좋은 순서대로 id만 꺼낸다. 호출 후 힙은 비워진다. */
+    public long[] drainSortedIds() {
+        int n = size;
+        long[] out = new long[n];
+        for (int i = n - 1; i >= 0; i--) {
+            out[i] = ids[0];
+            int last = --size;
+            set(0, scores[last], times[last], ids[last], payloads[last]);
+            payloads[last] = null;
+            if (size > 0) {
+                siftDown(0);
+            }
+        }
+        return out;
+    }
+
+    public void clear() {
+        Arrays.fill(payloads, 0, size, null);
+        size = 0;
+    }
+
+    // a가 b보다 좋으면 양수
+    private static int compare(double sa, long ta, long ia, double sb, long tb, long ib) {
+        int c = Double.compare(sa, sb);
+        if (c != 0) {
+            return c;
+        }
+        c = Long.compare(ta, tb);
+        return (c != 0) ? c : Long.compare(ia, ib);
+    }
+
+    private int compareAt(int a, int b) {
+        return compare(scores[a], times[a], ids[a], scores[b], times[b], ids[b]);
+    }
+
+    private void set(int i, double score, long time, long id, Object payload) {
+        scores[i] = score;
+        times[i] = time;
+        ids[i] = id;
+        payloads[i] = payload;
+    }
+
+    private void swap(int a, int b) {
+        double s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+        long t = times[a];
+        times[a] = times[b];
+        times[b] = t;
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        Object p = payloads[a];
+        payloads[a] = payloads[b];
+        payloads[b] = p;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (compareAt(i, parent) >= 0) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int worst = (right < size && compareAt(right, left) < 0) ? right : left;
+            if (compareAt(worst, i) >= 0) {
+                break;
+            }
+            swap(i, worst);
+            i = worst;
+        }
+    }
+}
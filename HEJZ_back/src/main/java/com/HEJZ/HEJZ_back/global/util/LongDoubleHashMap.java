@@ -0,0 +1,136 @@
+package com.HEJZ.HEJZ_back.global.util;
+
+import java.util.Arrays;
+
+/**
+ * long → double 오픈 어드레싱(선형 탐사) 해시맵.
+ * 박싱 없이 조회/갱신하므로 랭킹 루프처럼 호출이 많은 곳에서 가비지를 만들지 않는다.
+ * 키 0은 빈 슬롯 표시로 쓰므로 별도 필드에 보관한다. 삭제는 지원하지 않는다.
+ */
+public final class LongDoubleHashMap {
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long key, double value);
+    }
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private double[] values;
+    private int mask;
+    private int size;
+
+    private boolean hasZeroKey;
+    private double zeroValue;
+
+    public LongDoubleHashMap() {
+        this(8);
+    }
+
+    public LongDoubleHashMap(int expectedSize) {
+        int cap = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[cap];
+        this.values = new double[cap];
+        this.mask = cap - 1;
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey;
+        }
+        return keys[indexOf(key)] == key;
+    }
+
+    public double get(long key, double defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int i = indexOf(key);
+        return keys[i] == key ? values[i] : defaultValue;
+    }
+
+    public void put(long key, double value) {
+        if (key == EMPTY) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int i = indexOf(key);
+        if (keys[i] == key) {
+            values[i] = value;
+            return;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /** 기존 값(없으면 0)에 delta를 더하고 결과를 반환 */
+    public double addTo(long key, double delta) {
+        double v = get(key, 0.0) + delta;
+        put(key, v);
+        return v;
+    }
+
+    public void forEach(Consumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public LongDoubleHashMap copy() {
+        LongDoubleHashMap m = new LongDoubleHashMap(4);
+        m.keys = Arrays.copyOf(keys, keys.length);
+        m.values = Arrays.copyOf(values, values.length);
+        m.mask = mask;
+        m.size = size;
+        m.hasZeroKey = hasZeroKey;
+        m.zeroValue = zeroValue;
+        return m;
+    }
+
+    // key가 있는 슬롯, 없으면 들어갈 빈 슬롯
+    private int indexOf(long key) {
+        int i = mix(key) & mask;
+        while (keys[i] != EMPTY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        keys = new long[newCapacity];
+        values = new double[newCapacity];
+        mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int j = indexOf(oldKeys[i]);
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.HEJZ.HEJZ_back.global.util;
+
+/**
+ * long → float 오픈 어드레싱(선형 탐사) 해시맵.
+ * 항목이 아주 많은 인덱스(피드별 이웃 점수 등)에서 박싱/엔트리 객체 없이 12바이트/슬롯으로 보관한다.
+ * LongDoubleHashMap과 달리 삭제를 지원한다. (backward shift, 툼스톤 없음)
+ * 키 0은 빈 슬롯 표시로 쓰므로 별도 필드에 보관한다.
+ */
+public final class LongFloatHashMap {
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long key, float value);
+    }
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private float[] values;
+    private int mask;
+    private int size;
+
+    private boolean hasZeroKey;
+    private float zeroValue;
+
+    public LongFloatHashMap() {
+        this(4);
+    }
+
+    public LongFloatHashMap(int expectedSize) {
+        int cap = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[cap];
+        this.values = new float[cap];
+        this.mask = cap - 1;
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** 슬롯 배열 길이 (메모리 추정용) */
+    public int capacity() {
+        return keys.length;
+    }
+
+    public float get(long key, float defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int i = indexOf(key);
+        return keys[i] == key ? values[i] : defaultValue;
+    }
+
+    public void put(long key, float value) {
+        if (key == EMPTY) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int i = indexOf(key);
+        if (keys[i] == key) {
+            values[i] = value;
+            return;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /** 기존 값(없으면 0)에 delta를 더하고 결과를 반환 */
+    public float addTo(long key, float delta) {
+        float v = get(key, 0f) + delta;
+        put(key, v);
+        return v;
+    }
+
+    public void remove(long key) {
+        if (key == EMPTY) {
+            hasZeroKey = false;
+            zeroValue = 0f;
+            return;
+        }
+        int i = indexOf(key);
+        if (keys[i] != key) {
+            return;
+        }
+        // 뒤따르는 클러스터를 당겨 빈 칸을 메운다
+        int hole = i;
+        int j = (i + 1) & mask;
+        while (keys[j] != EMPTY) {
+            int home = mix(keys[j]) & mask;
+            // home이 (hole, j] 구간 밖이면 hole로 옮겨도 탐색 경로가 유지된다
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+            j = (j + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        values[hole] = 0f;
+        size--;
+    }
+
+    public void forEach(Consumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    // key가 있는 슬롯, 없으면 들어갈 빈 슬롯
+    private int indexOf(long key) {
+        int i = mix(key) & mask;
+        while (keys[i] != EMPTY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        float[] oldValues = values;
+        keys = new long[newCapacity];
+        values = new float[newCapacity];
+        mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int j = indexOf(oldKeys[i]);
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer.Counter;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedUnlikedEvent;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogOffsetStore;
+import com.HEJZ.HEJZ_back.global.eventlog.LoggedEvent;
+
+class LikeCounterEventHandlerTest {
+
+    private final CounterBuffer counterBuffer = mock(CounterBuffer.class);
+    private final EventLogOffsetStore offsetStore = mock(EventLogOffsetStore.class);
+    private LikeCounterEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        when(offsetStore.appliedSeq("like-counter")).thenReturn(10L);
+        handler = new LikeCounterEventHandler(counterBuffer, offsetStore);
+    }
+
+    private static List<LoggedEvent> batch() {
+        return List.of(
+                new LoggedEvent(9, new FeedLikedEvent(1L, 100L)),
+                new LoggedEvent(10, new FeedLikedEvent(2L, 100L)),
+                new LoggedEvent(11, new FeedLikedEvent(3L, 100L)),
+                new LoggedEvent(12, new FeedLikedEvent(3L, 200L)),
+                new LoggedEvent(13, new FeedUnlikedEvent(4L, 100L)));
+    }
+
+    @Test
+    void skipsEventsAlreadyAppliedAndAddsBatchOnce() {
+        handler.handle(batch());
+        // 재시작 재전달 / 건별 재시도로 같은 배치를 다시 받음
+        handler.handle(batch());
+        handler.handle(List.of(batch().get(3)));
+
+        // DB에 반영된 10 이하는 빼고, 한 번만 넘긴다
+        verify(counterBuffer).addLogged("like-counter", 13L, Counter.FEED_LIKE, Map.of(100L, 0L, 200L, 1L));
+    }
+
+    @Test
+    void durableSeqWaitsForBufferCommit() {
+        handler.handle(batch());
+        assertThat(handler.durableSeq(20)).isEqualTo(10L);
+
+        when(offsetStore.appliedSeq("like-counter")).thenReturn(13L);
+        assertThat(handler.durableSeq(20)).isEqualTo(20L);
+    }
+
+    @Test
+    void batchWithoutLikesLeavesBufferUntouched() {
+        handler.handle(List.of(new LoggedEvent(11, new Object())));
+
+        verify(counterBuffer, never()).addLogged(anyString(), anyLong(), any(), any());
+        assertThat(handler.durableSeq(11)).isEqualTo(11L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedLikeRepository;
+
+class CoLikeIndexTest {
+
+    private final FeedLikeRepository repo = mock(FeedLikeRepository.class);
+
+    private CoLikeIndex index(int maxNeighbors, long maxEntries, double decay) {
+        return new CoLikeIndex(repo, maxNeighbors, maxEntries, decay, 1000, 1000);
+    }
+
+    // 서로 다른 유저 count명이 feedId와 otherId를 차례로 좋아요 → 공동 좋아요 수 count
+    private static long pair(CoLikeIndex index, long firstUser, long feedId, long otherId, int count) {
+        long user = firstUser;
+        for (int i = 0; i < count; i++, user++) {
+            index.onLiked(user, feedId);
+            index.onLiked(user, otherId);
+        }
+        return user;
+    }
+
+    @Test
+    void compactDecaysAndDropsWeakPairs() {
+        CoLikeIndex index = index(10, 1000, 0.5);
+        long user = pair(index, 1, 1L, 2L, 3);
+        pair(index, user, 1L, 3L, 1);
+        assertThat(index.entries()).isEqualTo(4);
+
+        assertThat(index.compact()).isEqualTo(4); // 1.5, 0.5: 최소값(0.5)은 남김
+        assertThat(index.compact()).isEqualTo(2); // 0.75, 0.25
+        assertThat(index.similar(1L, 10)).containsExactly(2L);
+        assertThat(index.similar(3L, 10)).isEmpty();
+    }
+
+    @Test
+    void compactKeepsStrongestPairsWhenOverMaxEntries() {
+        CoLikeIndex index = index(10, 4, 1.0);
+        long user = 1;
+        for (long other = 2; other <= 5; other++) {
+            user = pair(index, user, 1L, other, (int) (6 - other)); // 2:4, 3:3, 4:2, 5:1
+        }
+        assertThat(index.entries()).isEqualTo(8);
+
+        // 피드당 상한을 줄여도 넘치므로 상위 4개(공동 좋아요 3 이상)만 남는다
+        assertThat(index.compact()).isEqualTo(4);
+        assertThat(index.similar(1L, 10)).containsExactly(2L, 3L);
+        assertThat(index.similar(2L, 10)).containsExactly(1L);
+        assertThat(index.similar(5L, 10)).isEmpty();
+    }
+
+    @Test
+    void prunesNeighborsBeyondTwiceTheCap() {
+        CoLikeIndex index = index(2, 1000, 1.0);
+        long user = pair(index, 1, 1L, 2L, 3);
+        user = pair(index, user, 1L, 3L, 2);
+        user = pair(index, user, 1L, 4L, 1);
+        user = pair(index, user, 1L, 5L, 1);
+        assertThat(index.similar(1L, 10)).hasSize(4).startsWith(2L, 3L);
+
+        pair(index, user, 1L, 6L, 1); // 이웃 5개 > 2 × 2 → 상위 2개로
+        assertThat(index.similar(1L, 10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void eventsDuringWarmUpAreAppliedAfterHistory() {
+        CoLikeIndex index = index(10, 1000, 1.0);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { 1L, 7L, 10L });
+        rows.add(new Object[] { 2L, 7L, 11L });
+        when(repo.findMaxId()).thenReturn(2L);
+        when(repo.findLikePairs(anyLong(), any())).thenAnswer(inv -> {
+            // 적재 도중 커밋된 좋아요/취소
+            index.onLiked(7L, 12L);
+            index.onUnliked(7L, 10L);
+            return rows;
+        });
+
+        index.warmUp();
+
+        // DB 순서(10, 11) 뒤에 12 좋아요, 10 취소가 반영된다
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.similar(12L, 10)).containsExactly(11L);
+        assertThat(index.similar(10L, 10)).isEmpty();
+        assertThat(index.entries()).isEqualTo(2);
+        assertThat(index.candidatesFor(8L, 10)).isEmpty();
+    }
+}
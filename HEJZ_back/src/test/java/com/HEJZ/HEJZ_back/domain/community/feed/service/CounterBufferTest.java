@@ -0,0 +1,130 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.event.CountersFlushedEvent;
+import com.HEJZ.HEJZ_back.domain.community.feed.service.CounterBuffer.Counter;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogOffsetStore;
+
+class CounterBufferTest {
+
+    private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+    private EventLogOffsetStore offsetStore;
+    private CounterBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        offsetStore = new EventLogOffsetStore(jdbc);
+        buffer = new CounterBuffer(jdbc, publisher, txManager, offsetStore);
+    }
+
+    @Test
+    void failedBatchRollsBackAndKeepsEveryDelta() {
+        buffer.add(Counter.FEED_LIKE, 1L, 1);
+        buffer.add(Counter.FEED_LIKE, 1L, 1);
+        buffer.add(Counter.FEED_LIKE, 2L, -1);
+        when(jdbc.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("boom"));
+
+        assertThat(buffer.flush()).isZero();
+
+        verify(txManager).rollback(any());
+        verify(publisher, never()).publishEvent(any());
+        assertThat(buffer.pending(Counter.FEED_LIKE, 1L)).isEqualTo(2);
+        assertThat(buffer.pending(Counter.FEED_LIKE, 2L)).isEqualTo(-1);
+    }
+
+    @Test
+    void retryAfterFailureSendsSameDeltasOnce() {
+        buffer.add(Counter.COMMENT_LIKE, 7L, 3);
+        List<List<Object[]>> batches = new ArrayList<>();
+        when(jdbc.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("boom"))
+                .thenAnswer(inv -> {
+                    batches.add(inv.getArgument(1));
+                    return new int[] { 1 };
+                });
+
+        buffer.flush();
+        assertThat(buffer.flush()).isEqualTo(1);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).get(0)).containsExactly(3L, 7L);
+        assertThat(buffer.pending(Counter.COMMENT_LIKE, 7L)).isZero();
+        assertThat(buffer.flush()).isZero(); // 두 번 반영하지 않음
+    }
+
+    @Test
+    void inFlightDeltasStayVisibleUntilCommit() {
+        buffer.add(Counter.FEED_COMMENT, 5L, 4);
+        long[] seenDuringBatch = new long[1];
+        when(jdbc.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            // 배치 실행 중에 들어온 증분도 합쳐서 보인다
+            buffer.add(Counter.FEED_COMMENT, 5L, 1);
+            seenDuringBatch[0] = buffer.pending(Counter.FEED_COMMENT, 5L);
+            return new int[] { 1 };
+        });
+
+        buffer.flush();
+
+        assertThat(seenDuringBatch[0]).isEqualTo(5);
+        assertThat(buffer.pending(Counter.FEED_COMMENT, 5L)).isEqualTo(1);
+    }
+
+    @Test
+    void publishesFlushedDeltasAfterCommit() {
+        buffer.add(Counter.FEED_LIKE, 1L, 2);
+        when(jdbc.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1 });
+
+        buffer.flush();
+
+        verify(txManager).commit(any());
+        ArgumentCaptor<CountersFlushedEvent> event = ArgumentCaptor.forClass(CountersFlushedEvent.class);
+        verify(publisher).publishEvent(event.capture());
+        assertThat(event.getValue().counter()).isEqualTo(Counter.FEED_LIKE);
+        assertThat(event.getValue().deltas()).containsEntry(1L, 2L);
+    }
+
+    @Test
+    void consumerOffsetCommitsWithItsDeltas() {
+        buffer.addLogged("like-counter", 42L, Counter.FEED_LIKE, Map.of(1L, 2L));
+        when(jdbc.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("boom"))
+                .thenReturn(new int[] { 1 });
+        when(jdbc.update(anyString(), eq(42L), eq("like-counter"))).thenReturn(1);
+
+        // 롤백되면 오프셋도 반영 안 된 것으로 남고 다음 flush가 함께 다시 기록
+        buffer.flush();
+        assertThat(offsetStore.appliedSeq("like-counter")).isZero();
+        assertThat(buffer.pending(Counter.FEED_LIKE, 1L)).isEqualTo(2);
+
+        buffer.flush();
+        verify(jdbc).update(anyString(), eq(42L), eq("like-counter"));
+        assertThat(offsetStore.appliedSeq("like-counter")).isEqualTo(42L);
+        assertThat(buffer.pending(Counter.FEED_LIKE, 1L)).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
+
+class FeedFacetIndexTest {
+
+    private final FeedRepository repo = mock(FeedRepository.class);
+    private final FeedFacetIndex index = new FeedFacetIndex(repo, mock(TagDictionaryService.class));
+
+    @Test
+    void removalDuringWarmUpIsNotUndoneByBatchPut() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { 1L, 0, 0, null, null });
+        rows.add(new Object[] { 2L, 0, 0, null, null });
+        when(repo.findFacetRows(any(), any())).thenAnswer(inv -> {
+            // 배치를 읽은 뒤, 넣기 전에 커밋된 삭제와 작성
+            index.remove(1L);
+            index.add(3L, 0, 0);
+            return rows;
+        });
+
+        index.warmUp();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.page(TagFilter.NONE, null, 10)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void idBeyondBitmapRangeDisablesIndexInsteadOfThrowing() {
+        when(repo.findFacetRows(any(), any())).thenReturn(List.of());
+        index.warmUp();
+        long tooBig = Integer.MAX_VALUE + 1L;
+
+        index.add(tooBig, 0, 0);
+        index.remove(tooBig);
+
+        assertThat(index.isReady()).isFalse(); // 호출부는 DB 경로로
+        assertThat(index.page(TagFilter.NONE, tooBig + 1, 10)).isEmpty();
+    }
+}
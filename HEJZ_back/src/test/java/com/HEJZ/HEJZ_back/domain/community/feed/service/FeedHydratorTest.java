@@ -0,0 +1,134 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedItemDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.MediaType;
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedMediaEntity;
+import com.HEJZ.HEJZ_back.domain.community.user.entity.UserEntity;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogOffsetStore;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ FeedHydrator.class, CounterBuffer.class, EventLogOffsetStore.class })
+class FeedHydratorTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private FeedHydrator feedHydrator;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private final List<Long> feedIds = new ArrayList<>();
+    private final List<Long> authorIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int u = 0; u < 4; u++) {
+            UserEntity user = UserEntity.builder()
+                    .username("user" + u)
+                    .passwordHash("hash")
+                    .email("user" + u + "@test.com")
+                    .nickname("nick" + u)
+                    .profileImageUrl("profile.png")
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            em.persist(user);
+            authorIds.add(user.getId());
+        }
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            FeedEntity feed = FeedEntity.builder()
+                    .user(em.getReference(UserEntity.class, authorIds.get(i % authorIds.size())))
+                    .content("feed " + i)
+                    .createdAt(LocalDateTime.now().minusMinutes(i))
+                    .build();
+            // ord 역순으로 저장해도 ord 순으로 조립되는지 확인
+            for (int ord = 2; ord >= 0; ord--) {
+                feed.getImages().add(FeedMediaEntity.builder()
+                        .feed(feed)
+                        .url("media-" + i + "-" + ord)
+                        .ord(ord)
+                        .type(MediaType.IMAGE)
+                        .build());
+            }
+            em.persist(feed);
+            feedIds.add(feed.getId());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void loadItems_onePageUsesTwoStatements() {
+        Statistics stats = statistics();
+
+        List<FeedItemDto> items = feedHydrator.loadItems(feedIds);
+
+        // 피드 1회 + 미디어 1회 (피드 수와 무관)
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(items).extracting(FeedItemDto::id).containsExactlyElementsOf(feedIds);
+        assertThat(items).allSatisfy(item -> assertThat(item.media())
+                .extracting(m -> m.ord())
+                .containsExactly(0, 1, 2));
+    }
+
+    @Test
+    void loadItems_skipsSoftDeletedFeeds() {
+        Long deleted = feedIds.get(3);
+        em.createQuery("UPDATE FeedEntity f SET f.isDeleted = true WHERE f.id = :id")
+                .setParameter("id", deleted)
+                .executeUpdate();
+        em.clear();
+
+        List<FeedItemDto> items = feedHydrator.loadItems(feedIds);
+
+        assertThat(items).hasSize(PAGE_SIZE - 1);
+        assertThat(items).extracting(FeedItemDto::id).doesNotContain(deleted);
+    }
+
+    @Test
+    void toItemsAndAuthors_onePageUsesOneStatementEach() {
+        List<FeedEntity> feeds = em.createQuery("SELECT f FROM FeedEntity f ORDER BY f.id", FeedEntity.class)
+                .getResultList();
+        Statistics stats = statistics();
+
+        List<FeedItemDto> items = feedHydrator.toItems(feeds);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(items).hasSize(PAGE_SIZE);
+
+        var names = feedHydrator.loadAuthorNames(items.stream().map(FeedItemDto::userId).toList());
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(names).hasSize(authorIds.size());
+    }
+
+    private Statistics statistics() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        return stats;
+    }
+}
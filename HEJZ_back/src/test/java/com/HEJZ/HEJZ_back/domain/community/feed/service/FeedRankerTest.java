@@ -0,0 +1,82 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefScores;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.entity.UserPrefScoreEntity;
+
+class FeedRankerTest {
+
+    // primitive 채점/상한 계산은 태그 사전을 쓰지 않는다
+    private final FeedRanker ranker = new FeedRanker(null);
+
+    @Test
+    void upperBoundIsNeverBeatenByOlderFeeds() {
+        Random random = new Random(7);
+        long now = LocalDateTime.of(2026, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+        for (int round = 0; round < 100; round++) {
+            // 음수 점수와 상위 N개 자르기까지 섞은 취향 벡터
+            List<UserPrefScoreEntity> rows = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                PrefDimension d = PrefDimension.values()[random.nextInt(PrefDimension.values().length)];
+                rows.add(UserPrefScoreEntity.builder()
+                        .userId(1L)
+                        .key(PrefKey.of(d, random.nextInt(10)))
+                        .score(random.nextDouble() * 10 - 3)
+                        .build());
+            }
+            PrefScores prefs = PrefScores.from(rows, 5 + random.nextInt(20), 0L);
+
+            LocalDateTime boundary = LocalDateTime.of(2025, 12, 31, 0, 0).minusHours(random.nextInt(72));
+            double bound = ranker.upperBoundOlderThan(prefs, boundary, now);
+
+            long boundarySec = boundary.toEpochSecond(ZoneOffset.UTC);
+            for (int i = 0; i < 200; i++) {
+                long createdAt = boundarySec - random.nextInt(7 * 24 * 3600);
+                double score = ranker.score(random.nextInt(12), random.nextInt(12), random.nextInt(12),
+                        createdAt, prefs, now);
+                assertThat(score).isLessThanOrEqualTo(bound);
+            }
+        }
+    }
+
+    @Test
+    void upperBoundIsTightForBestMatchAtBoundary() {
+        long now = LocalDateTime.of(2026, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        PrefScores prefs = PrefScores.from(List.of(
+                UserPrefScoreEntity.builder().userId(1L).key(PrefKey.of(PrefDimension.AUTHOR, 3)).score(2.0).build(),
+                UserPrefScoreEntity.builder().userId(1L).key(PrefKey.of(PrefDimension.GENRE, 4)).score(1.5).build(),
+                UserPrefScoreEntity.builder().userId(1L).key(PrefKey.of(PrefDimension.EMOTION, 5)).score(1.0).build()));
+        LocalDateTime boundary = LocalDateTime.of(2025, 12, 31, 12, 0);
+
+        double best = ranker.score(3, 4, 5, boundary.toEpochSecond(ZoneOffset.UTC), prefs, now);
+        assertThat(ranker.upperBoundOlderThan(prefs, boundary, now)).isEqualTo(best);
+    }
+
+    @Test
+    void emptyPrefsBoundIsRecencyOnly() {
+        long now = LocalDateTime.of(2026, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        LocalDateTime boundary = LocalDateTime.of(2025, 12, 31, 0, 0);
+        double bound = ranker.upperBoundOlderThan(PrefScores.EMPTY, boundary, now);
+        assertThat(bound).isEqualTo(FeedRanker.W_RECENCY * Math.exp(-1.0));
+    }
+
+    @Test
+    void followBoostAppliesOnlyToFollowees() {
+        long[] followees = { 3L, 8L, 20L };
+        assertThat(FeedRanker.followBoost(8L, followees)).isEqualTo(FeedRanker.FOLLOW_BOOST);
+        assertThat(FeedRanker.followBoost(9L, followees)).isZero();
+        assertThat(FeedRanker.followBoost(8L, FeedRanker.NO_FOLLOWEES)).isZero();
+    }
+}
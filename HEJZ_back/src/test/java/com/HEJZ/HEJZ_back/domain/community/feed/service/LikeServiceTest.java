@@ -0,0 +1,103 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.FeedLikeRequest;
+import com.HEJZ.HEJZ_back.domain.community.feed.dto.LikeDto;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.CommentLikeRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.CommentRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedLikeRepository;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedUnlikedEvent;
+import com.HEJZ.HEJZ_back.domain.community.user.repository.UserRepository;
+import com.HEJZ.HEJZ_back.global.response.ApiResponse;
+
+class LikeServiceTest {
+
+    private static final long USER = 1L;
+    private static final long FEED = 10L;
+
+    private final FeedLikeRepository feedLikeRepository = mock(FeedLikeRepository.class);
+    private final FeedRepository feedRepository = mock(FeedRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+    private LikeService service;
+
+    @BeforeEach
+    void setUp() {
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(userRepository.findIdByUsername("u")).thenReturn(USER);
+        service = new LikeService(mock(CommentLikeRepository.class), feedLikeRepository, feedRepository,
+                userRepository, publisher, mock(FeedHydrator.class), mock(CounterBuffer.class),
+                mock(CommentRepository.class), txManager);
+    }
+
+    private LikeDto toggle() {
+        ApiResponse<Object> res = service.feedLike(new FeedLikeRequest(FEED), "u");
+        assertThat(res.getCode()).isEqualTo(200);
+        return (LikeDto) res.getData();
+    }
+
+    @Test
+    void likeInsertsWithoutDeleting() {
+        when(feedLikeRepository.insertIgnore(eq(FEED), eq(USER), any())).thenReturn(1);
+
+        assertThat(toggle().isLiked()).isTrue();
+
+        verify(feedLikeRepository, never()).deleteByFeedIdAndUserId(any(), any());
+        verify(publisher).publishEvent(new FeedLikedEvent(USER, FEED));
+    }
+
+    @Test
+    void existingLikeIsDeletedOnlyAfterInsertIsIgnored() {
+        when(feedLikeRepository.insertIgnore(eq(FEED), eq(USER), any())).thenReturn(0);
+        when(feedLikeRepository.deleteByFeedIdAndUserId(FEED, USER)).thenReturn(1);
+
+        assertThat(toggle().isLiked()).isFalse();
+
+        InOrder order = inOrder(feedLikeRepository);
+        order.verify(feedLikeRepository).insertIgnore(eq(FEED), eq(USER), any());
+        order.verify(feedLikeRepository).deleteByFeedIdAndUserId(FEED, USER);
+        verify(publisher).publishEvent(new FeedUnlikedEvent(USER, FEED));
+    }
+
+    @Test
+    void deadlockVictimRetriesOnceInNewTransaction() {
+        when(feedLikeRepository.insertIgnore(eq(FEED), eq(USER), any()))
+                .thenReturn(0)
+                .thenReturn(1);
+        // 동시 토글과 교착 → 롤백 후 재시도에서는 상대가 지운 뒤라 좋아요
+        when(feedLikeRepository.deleteByFeedIdAndUserId(FEED, USER))
+                .thenThrow(new CannotAcquireLockException("Deadlock found"));
+
+        assertThat(toggle().isLiked()).isTrue();
+
+        verify(txManager).rollback(any());
+        verify(txManager).commit(any());
+    }
+
+    @Test
+    void missingFeedFails() {
+        when(feedLikeRepository.insertIgnore(eq(FEED), eq(USER), any())).thenReturn(0);
+        when(feedRepository.existsById(FEED)).thenReturn(false);
+
+        assertThat(service.feedLike(new FeedLikeRequest(FEED), "u").getCode()).isEqualTo(500);
+    }
+}
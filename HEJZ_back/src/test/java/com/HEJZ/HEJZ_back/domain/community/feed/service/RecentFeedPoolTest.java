@@ -0,0 +1,76 @@
+package com.HEJZ.HEJZ_back.domain.community.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.HEJZ.HEJZ_back.domain.community.feed.entity.FeedEntity;
+import com.HEJZ.HEJZ_back.domain.community.feed.repository.FeedRepository;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefScores;
+import com.HEJZ.HEJZ_back.domain.community.user.entity.UserEntity;
+
+class RecentFeedPoolTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final FeedRepository repo = mock(FeedRepository.class);
+    private final RecentFeedPool pool = new RecentFeedPool(repo, mock(TagDictionaryService.class), new FeedRanker(null));
+
+    private static FeedEntity feed(long id, int minutes) {
+        return FeedEntity.builder()
+                .id(id)
+                .user(UserEntity.builder().id(1L).build())
+                .genreId(0)
+                .emotionId(0)
+                .createdAt(T0.plusMinutes(minutes))
+                .build();
+    }
+
+    private long[] rankedIds() {
+        long now = T0.plusDays(1).toEpochSecond(ZoneOffset.UTC);
+        return pool.rank(PrefScores.EMPTY, FeedRanker.NO_FOLLOWEES, now, TagFilter.NONE).rankedIds();
+    }
+
+    @Test
+    void eventsDuringWarmUpAreAppliedAfterLoad() {
+        when(repo.findNotDeletedBatch(any(), any(), any())).thenAnswer(inv -> {
+            // 읽는 사이 커밋된 이벤트: 새 피드 3, 읽기 결과에 이미 있는 피드 2, 피드 1 삭제
+            pool.add(3L, 1L, 0, 0, T0.plusMinutes(3));
+            pool.add(2L, 1L, 0, 0, T0.plusMinutes(2));
+            pool.remove(1L);
+            return List.of(feed(2L, 2), feed(1L, 1));
+        });
+
+        pool.warmUp();
+
+        assertThat(pool.isReady()).isTrue();
+        assertThat(pool.size()).isEqualTo(3);
+        assertThat(rankedIds()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void failedLoadStillAppliesQueuedEvents() {
+        when(repo.findNotDeletedBatch(any(), any(), any())).thenAnswer(inv -> {
+            pool.add(5L, 1L, 0, 0, T0);
+            throw new IllegalStateException("db down");
+        });
+
+        try {
+            pool.warmUp();
+        } catch (IllegalStateException expected) {
+            // 기동 이벤트에서 던진 예외는 그대로 올라간다
+        }
+
+        assertThat(pool.isReady()).isFalse();
+        assertThat(pool.size()).isEqualTo(1);
+        pool.add(6L, 1L, 0, 0, T0.plusMinutes(1)); // 적재가 끝났으므로 바로 반영
+        assertThat(rankedIds()).containsExactly(6L, 5L);
+    }
+}
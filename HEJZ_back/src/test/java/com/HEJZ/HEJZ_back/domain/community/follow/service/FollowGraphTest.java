@@ -0,0 +1,78 @@
+package com.HEJZ.HEJZ_back.domain.community.follow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.HEJZ.HEJZ_back.domain.community.follow.repository.FollowRepository;
+
+class FollowGraphTest {
+
+    private final FollowRepository repo = mock(FollowRepository.class);
+    private final FollowGraph graph = new FollowGraph(repo);
+
+    private static List<Object[]> rows(long[]... pairs) {
+        List<Object[]> out = new ArrayList<>();
+        long id = 1;
+        for (long[] p : pairs) {
+            out.add(new Object[] { id++, p[0], p[1] });
+        }
+        return out;
+    }
+
+    @Test
+    void eventsDuringRebuildAreReplayedOntoNewGraph() {
+        // DB 스냅샷: 1→2, 1→3, 4→2
+        when(repo.findFollowPairs(anyLong(), any())).thenAnswer(inv -> {
+            // 스냅샷을 읽은 뒤 커밋된 변경
+            graph.onFollowed(1L, 5L);
+            graph.onUnfollowed(1L, 3L);
+            graph.onFollowed(4L, 2L); // 스냅샷에도 있는 중복
+            graph.rebuild(); // 재구축 중 재호출은 무시
+            return rows(new long[] { 1, 2 }, new long[] { 1, 3 }, new long[] { 4, 2 });
+        });
+
+        graph.rebuild();
+
+        assertThat(graph.isReady()).isTrue();
+        assertThat(graph.followees(1L)).containsExactly(2L, 5L);
+        assertThat(graph.followees(4L)).containsExactly(2L);
+        assertThat(graph.followersOf(2L)).containsExactly(1L, 4L);
+        assertThat(graph.followersOf(3L)).isEmpty();
+        assertThat(graph.followersOf(5L)).containsExactly(1L);
+        assertThat(graph.isFollowing(1L, 3L)).isFalse();
+        assertThat(graph.edges()).isEqualTo(3);
+        verify(repo, times(1)).findFollowPairs(anyLong(), any());
+
+        // 재구축이 끝난 뒤의 변경은 바로 반영
+        graph.onUnfollowed(1L, 2L);
+        assertThat(graph.followees(1L)).containsExactly(5L);
+        assertThat(graph.followersOf(2L)).containsExactly(4L);
+    }
+
+    @Test
+    void failedRebuildAllowsRetry() {
+        when(repo.findFollowPairs(anyLong(), any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(rows(new long[] { 1, 2 }));
+
+        assertThatThrownBy(graph::rebuild).isInstanceOf(IllegalStateException.class);
+        assertThat(graph.isReady()).isFalse();
+        when(repo.existsByFollower_IdAndFollowing_Id(1L, 2L)).thenReturn(true);
+        assertThat(graph.isFollowing(1L, 2L)).isTrue(); // 적재 전에는 DB로 답함
+
+        graph.rebuild();
+        assertThat(graph.isReady()).isTrue();
+        assertThat(graph.followees(1L)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,41 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.entity.UserPrefScoreEntity;
+
+class PrefScoresTest {
+
+    private static UserPrefScoreEntity row(PrefDimension d, int id, double score) {
+        return UserPrefScoreEntity.builder().userId(1L).key(PrefKey.of(d, id)).score(score).build();
+    }
+
+    @Test
+    void truncatedTailDoesNotLeakIntoUnknownKeysOrOtherDimensions() {
+        // 작성자 점수는 크고 장르/감정은 작다. 상위 2개만 보관
+        List<UserPrefScoreEntity> rows = new ArrayList<>();
+        rows.add(row(PrefDimension.AUTHOR, 1, 50.0));
+        rows.add(row(PrefDimension.AUTHOR, 2, 40.0));
+        rows.add(row(PrefDimension.AUTHOR, 3, 30.0));
+        rows.add(row(PrefDimension.GENRE, 1, 0.5));
+        rows.add(row(PrefDimension.EMOTION, 1, 0.2));
+
+        PrefScores prefs = PrefScores.from(rows, 2, 0L);
+
+        assertThat(prefs.size()).isEqualTo(2);
+        assertThat(prefs.get(PrefKey.of(PrefDimension.AUTHOR, 1))).isEqualTo(50.0);
+        // 본 적 없는 키와 잘린 키는 0
+        assertThat(prefs.get(PrefKey.of(PrefDimension.AUTHOR, 99))).isZero();
+        assertThat(prefs.get(PrefKey.of(PrefDimension.GENRE, 7))).isZero();
+        assertThat(prefs.get(PrefKey.of(PrefDimension.GENRE, 1))).isZero();
+        // 차원별 상한도 그 차원에 보관한 값만 본다
+        assertThat(prefs.maxOf(PrefDimension.AUTHOR)).isEqualTo(50.0);
+        assertThat(prefs.maxOf(PrefDimension.GENRE)).isZero();
+        assertThat(prefs.maxOf(PrefDimension.EMOTION)).isZero();
+    }
+}
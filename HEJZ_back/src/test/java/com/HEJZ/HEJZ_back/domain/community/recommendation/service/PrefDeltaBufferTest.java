@@ -0,0 +1,144 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+import com.HEJZ.HEJZ_back.global.eventlog.EventLogOffsetStore;
+import com.HEJZ.HEJZ_back.global.util.LongDoubleHashMap;
+
+class PrefDeltaBufferTest {
+
+    private static final long GENRE_3 = PrefKey.of(PrefDimension.GENRE, 3);
+    private static final long AUTHOR_9 = PrefKey.of(PrefDimension.AUTHOR, 9);
+
+    private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+    private EventLogOffsetStore offsetStore;
+    private PrefDeltaBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        offsetStore = new EventLogOffsetStore(jdbc);
+        buffer = new PrefDeltaBuffer(jdbc, new PrefDecay(30, 60, 14), txManager, offsetStore);
+    }
+
+    @Test
+    void failedBatchRollsBackAndKeepsEveryDelta() {
+        buffer.add(1L, GENRE_3, 1.0);
+        buffer.add(2L, AUTHOR_9, 2.0);
+        when(jdbc.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            buffer.add(1L, GENRE_3, 0.5); // 반영 중에 들어온 증분
+            throw new DataIntegrityViolationException("boom");
+        });
+
+        assertThat(buffer.flush()).isZero();
+
+        verify(txManager).rollback(any());
+        assertThat(buffer.pending(1L).get(GENRE_3, 0.0)).isEqualTo(1.5);
+        assertThat(buffer.pending(2L).get(AUTHOR_9, 0.0)).isEqualTo(2.0);
+        assertThat(buffer.snapshot(1L).inFlight()).isFalse();
+    }
+
+    @Test
+    void retryAfterFailureSendsSameDeltasOnce() {
+        buffer.add(1L, GENRE_3, 1.0);
+        List<List<Object[]>> batches = new ArrayList<>();
+        when(jdbc.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("boom"))
+                .thenAnswer(inv -> {
+                    batches.add(inv.getArgument(1));
+                    return new int[] { 1 };
+                });
+
+        buffer.flush();
+        assertThat(buffer.flush()).isEqualTo(1);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(1);
+        assertThat(batches.get(0).get(0)[0]).isEqualTo(1L);
+        assertThat(batches.get(0).get(0)[2]).isEqualTo(1.0);
+        assertThat(buffer.pending(1L)).isNull();
+        assertThat(buffer.flush()).isZero(); // 두 번 반영하지 않음
+    }
+
+    @Test
+    void inFlightDeltasStayVisibleUntilCommit() {
+        buffer.add(1L, GENRE_3, 1.0);
+        List<PrefDeltaBuffer.Pending> seen = new ArrayList<>();
+        when(jdbc.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            buffer.add(1L, GENRE_3, 0.25);
+            seen.add(buffer.snapshot(1L));
+            seen.add(buffer.snapshot(2L));
+            return new int[] { 1 };
+        });
+        long before = buffer.flushSeq();
+
+        buffer.flush();
+
+        // 반영 중: 떼어 낸 증분 + 새 증분이 함께 보이고, flushSeq는 홀수
+        assertThat(seen.get(0).deltas().get(GENRE_3, 0.0)).isEqualTo(1.25);
+        assertThat(seen.get(0).inFlight()).isTrue();
+        assertThat(seen.get(0).flushSeq() % 2).isEqualTo(1);
+        assertThat(seen.get(1).inFlight()).isFalse();
+
+        // 커밋 후: 새 증분만 남고 flushSeq는 짝수로 한 구간 진행
+        PrefDeltaBuffer.Pending after = buffer.snapshot(1L);
+        assertThat(after.deltas().get(GENRE_3, 0.0)).isEqualTo(0.25);
+        assertThat(after.inFlight()).isFalse();
+        assertThat(after.flushSeq()).isEqualTo(before + 2);
+    }
+
+    @Test
+    void snapshotCarriesTheLastAddSeqItIncludes() {
+        long first = buffer.add(1L, GENRE_3, 1.0);
+        assertThat(buffer.snapshot(1L).addSeq()).isEqualTo(first);
+
+        LongDoubleHashMap keys = new LongDoubleHashMap();
+        keys.addTo(GENRE_3, 0.5);
+        long second = buffer.addLogged("pref", 1L, Map.of(1L, keys)).get(1L);
+        assertThat(second).isGreaterThan(first);
+
+        // 반영 후에도 순번은 되돌아가지 않는다 (DB에 들어간 증분도 로드에 포함)
+        buffer.flush();
+        assertThat(buffer.snapshot(1L).addSeq()).isEqualTo(second);
+    }
+
+    @Test
+    void consumerOffsetCommitsWithItsDeltas() {
+        LongDoubleHashMap keys = new LongDoubleHashMap();
+        keys.addTo(GENRE_3, 0.7);
+        buffer.addLogged("pref", 9L, Map.of(1L, keys));
+        when(jdbc.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("boom"))
+                .thenReturn(new int[] { 1 });
+
+        buffer.flush();
+        assertThat(offsetStore.appliedSeq("pref")).isZero();
+
+        buffer.flush();
+        // UPDATE가 0행이면 INSERT (첫 기록)
+        verify(jdbc).update(anyString(), eq("pref"), eq(9L));
+        assertThat(offsetStore.appliedSeq("pref")).isEqualTo(9L);
+        assertThat(buffer.pending(1L)).isNull();
+    }
+}
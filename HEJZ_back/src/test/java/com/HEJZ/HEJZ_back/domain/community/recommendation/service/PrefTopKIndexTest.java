@@ -0,0 +1,160 @@
+package com.HEJZ.HEJZ_back.domain.community.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefDimension;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefEntry;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.dto.PrefKey;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.entity.UserPrefScoreEntity;
+import com.HEJZ.HEJZ_back.domain.community.recommendation.service.PrefTopKIndex.DimensionHeap;
+
+class PrefTopKIndexTest {
+
+    private static long genre(int id) {
+        return PrefKey.of(PrefDimension.GENRE, id);
+    }
+
+    private static Map<Long, Double> contents(DimensionHeap heap) {
+        List<PrefEntry> out = new ArrayList<>();
+        heap.collect(1.0, out);
+        Map<Long, Double> m = new HashMap<>();
+        out.forEach(e -> m.put(e.key(), e.score()));
+        return m;
+    }
+
+    private static DimensionHeap fullHeapWithOutsideKey() {
+        // 상위 3개(5, 4, 3)를 보관, 힙 밖 상한은 2
+        DimensionHeap heap = new DimensionHeap(3);
+        heap.insert(genre(1), 5.0);
+        heap.insert(genre(2), 4.0);
+        heap.insert(genre(3), 3.0);
+        heap.insert(genre(4), 2.0);
+        return heap;
+    }
+
+    @Test
+    void insertBeyondCapacityKeepsTopAndTracksOutsideMax() {
+        DimensionHeap heap = fullHeapWithOutsideKey();
+        heap.insert(genre(5), 3.5); // 루트(3) 밀어냄 → 힙 밖 상한 3
+
+        assertThat(contents(heap)).containsOnlyKeys(genre(1), genre(2), genre(5));
+        // 상한(3)까지는 내려가도 유지
+        assertThat(heap.apply(genre(5), -0.5)).isTrue();
+        // 상한 아래로 내려가면 힙 밖 키가 더 클 수 있어 재구축
+        assertThat(heap.apply(genre(5), -0.01)).isFalse();
+    }
+
+    @Test
+    void outsideKeyGoingUpForcesRebuild() {
+        DimensionHeap heap = fullHeapWithOutsideKey();
+        assertThat(heap.apply(genre(4), 0.1)).isFalse();
+    }
+
+    @Test
+    void outsideKeyGoingDownKeepsHeapWhileRootStaysAboveBound() {
+        DimensionHeap heap = fullHeapWithOutsideKey();
+        assertThat(heap.apply(genre(4), -1.0)).isTrue();
+        assertThat(heap.apply(genre(99), -0.5)).isTrue(); // 처음 보는 키도 0에서 내려가므로 상한 아래
+        assertThat(contents(heap)).containsOnlyKeys(genre(1), genre(2), genre(3));
+    }
+
+    @Test
+    void heapMinCrossingOutsideMaxForcesRebuild() {
+        DimensionHeap heap = fullHeapWithOutsideKey();
+        assertThat(heap.apply(genre(3), -1.0)).isTrue(); // 3 → 2 = 상한과 같음
+        assertThat(heap.apply(genre(3), -0.5)).isFalse(); // 2 → 1.5 < 상한 2
+    }
+
+    @Test
+    void staysExactTopKUnderRandomDeltasWithRebuilds() {
+        Random random = new Random(11);
+        int cap = 8;
+        Map<Long, Double> truth = new HashMap<>();
+        DimensionHeap heap = new DimensionHeap(cap);
+        int rebuilds = 0;
+
+        for (int step = 0; step < 5000; step++) {
+            long key = genre(random.nextInt(30));
+            double delta = random.nextDouble() * 2 - 0.8;
+            truth.merge(key, delta, Double::sum);
+            if (!heap.apply(key, delta)) {
+                heap = new DimensionHeap(cap);
+                for (Map.Entry<Long, Double> e : truth.entrySet()) {
+                    heap.insert(e.getKey(), e.getValue());
+                }
+                rebuilds++;
+            }
+
+            // 힙 안 점수는 정확하고, 힙 밖 어떤 키보다 작지 않다
+            Map<Long, Double> kept = contents(heap);
+            assertThat(kept).hasSize(Math.min(cap, truth.size()));
+            double min = Double.POSITIVE_INFINITY;
+            for (Map.Entry<Long, Double> e : kept.entrySet()) {
+                assertThat(e.getValue()).isCloseTo(truth.get(e.getKey()), offset(1e-9));
+                min = Math.min(min, e.getValue());
+            }
+            for (Map.Entry<Long, Double> e : truth.entrySet()) {
+                if (!kept.containsKey(e.getKey())) {
+                    assertThat(e.getValue()).isLessThanOrEqualTo(min + 1e-9);
+                }
+            }
+        }
+        assertThat(rebuilds).isPositive();
+    }
+
+    @Test
+    void indexUpdatesInPlaceAndReloadsOnlyWhenBoundaryIsCrossed() {
+        PrefReader reader = mock(PrefReader.class);
+        List<UserPrefScoreEntity> rows = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            rows.add(UserPrefScoreEntity.builder().userId(1L).key(genre(i)).score(i).build());
+        }
+        when(reader.load(eq(1L), anyLong())).thenReturn(new PrefReader.Loaded(rows, 0L));
+        PrefTopKIndex index = new PrefTopKIndex(reader, new PrefDecay(30, 60, 14), 2);
+
+        assertThat(index.topK(1L, PrefDimension.GENRE, 5)).extracting(PrefEntry::key)
+                .containsExactly(genre(4), genre(3));
+
+        index.applyDelta(1L, genre(3), 2.0, 1L); // 3 → 5: 힙 안에서 순서만 바뀜
+        assertThat(index.topK(1L, PrefDimension.GENRE, 5)).extracting(PrefEntry::key)
+                .containsExactly(genre(3), genre(4));
+        verify(reader, times(1)).load(eq(1L), anyLong());
+
+        index.applyDelta(1L, genre(2), 1.0, 2L); // 힙 밖 키가 올라감 → 버리고 다음 조회에서 재구축
+        index.topK(1L, PrefDimension.GENRE, 5);
+        verify(reader, times(2)).load(eq(1L), anyLong());
+    }
+
+    @Test
+    void deltasAlreadyInTheLoadAreNotAppliedTwice() {
+        PrefReader reader = mock(PrefReader.class);
+        // 순번 5까지의 증분이 들어간 로드 (버퍼에 넣은 뒤 캐시 갱신 전에 로드가 끼어든 경우)
+        List<UserPrefScoreEntity> rows = List.of(
+                UserPrefScoreEntity.builder().userId(1L).key(genre(1)).score(3.0).build());
+        when(reader.load(eq(1L), anyLong())).thenReturn(new PrefReader.Loaded(rows, 5L));
+        PrefTopKIndex index = new PrefTopKIndex(reader, new PrefDecay(30, 60, 14), 2);
+        index.topK(1L, 5);
+
+        index.applyDelta(1L, genre(1), 1.0, 5L); // 로드에 이미 포함
+        assertThat(index.topK(1L, 5).get(0).score()).isCloseTo(3.0, offset(1e-6));
+
+        index.applyDelta(1L, genre(1), 1.0, 6L);
+        assertThat(index.topK(1L, 5).get(0).score()).isCloseTo(4.0, offset(1e-6));
+        verify(reader, times(1)).load(eq(1L), anyLong());
+    }
+}
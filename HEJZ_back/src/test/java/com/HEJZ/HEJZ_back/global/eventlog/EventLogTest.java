@@ -0,0 +1,97 @@
+package com.HEJZ.HEJZ_back.global.eventlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.HEJZ.HEJZ_back.domain.community.recommendation.event.FeedLikedEvent;
+
+class EventLogTest {
+
+    // FeedLikedEvent 한 건: 길이 4 + seq 8 + 타입 1 + payload 16 + crc 4
+    private static final int RECORD = 33;
+
+    @TempDir
+    Path dir;
+
+    private EventLog open(int segmentBytes) {
+        EventLog log = new EventLog(dir.toString(), segmentBytes);
+        log.open();
+        return log;
+    }
+
+    private Path segment(long firstSeq) {
+        return dir.resolve(String.format("%020d.log", firstSeq));
+    }
+
+    @Test
+    void recoverErasesTornRecordPastZeroBytes() throws IOException {
+        EventLog log = open(4096);
+        for (long i = 1; i <= 3; i++) {
+            log.append(new FeedLikedEvent(i, i));
+        }
+        log.close();
+
+        // 쓰다 죽은 4번째 레코드: 길이/seq는 썼지만 payload 중간은 0이고 뒤쪽에 쓰레기가 남음
+        int end = 3 * RECORD;
+        try (RandomAccessFile file = new RandomAccessFile(segment(1).toFile(), "rw")) {
+            file.seek(end);
+            file.writeInt(16);
+            file.writeLong(4);
+            file.writeByte(5);
+            file.seek(end + 40);
+            file.writeByte(0x7f);
+            file.seek(end + 300);
+            file.writeInt(0xdeadbeef);
+        }
+
+        EventLog reopened = open(4096);
+        assertThat(reopened.lastSeq()).isEqualTo(3);
+        byte[] bytes = Files.readAllBytes(segment(1));
+        assertThat(Arrays.copyOfRange(bytes, end, bytes.length)).containsOnly(0);
+
+        assertThat(reopened.append(new FeedLikedEvent(9L, 9L))).isEqualTo(4);
+        List<LoggedEvent> events = reopened.read(new EventLog.Cursor(1), 10);
+        assertThat(events).extracting(LoggedEvent::seq).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(events.get(3).event()).isEqualTo(new FeedLikedEvent(9L, 9L));
+        reopened.close();
+
+        // 새로 쓴 레코드 뒤에 남은 쓰레기가 없어서 다시 열어도 그대로
+        assertThat(open(4096).lastSeq()).isEqualTo(4);
+    }
+
+    @Test
+    void deleteUpToRemovesOnlyFullyConsumedSegments() {
+        // 세그먼트 하나에 3건씩 (3건 뒤 + 롤 표시 4바이트가 128을 넘음)
+        EventLog log = open(128);
+        for (long i = 1; i <= 7; i++) {
+            log.append(new FeedLikedEvent(i, i));
+        }
+        assertThat(segment(1)).exists();
+        assertThat(segment(4)).exists();
+        assertThat(segment(7)).exists();
+
+        EventLog.Cursor cursor = new EventLog.Cursor(1);
+        assertThat(log.read(cursor, 3)).hasSize(3);
+
+        log.deleteUpTo(5); // 4..6 세그먼트는 6이 남아 있어 유지
+        assertThat(segment(1)).doesNotExist();
+        assertThat(segment(4)).exists();
+        assertThat(log.firstSeq()).isEqualTo(4);
+
+        // 지운 세그먼트 끝을 가리키던 cursor도 다음 세그먼트에서 이어 읽는다
+        assertThat(log.read(cursor, 10)).extracting(LoggedEvent::seq).containsExactly(4L, 5L, 6L, 7L);
+        assertThat(log.read(new EventLog.Cursor(1), 10)).extracting(LoggedEvent::seq)
+                .containsExactly(4L, 5L, 6L, 7L);
+        assertThat(log.append(new FeedLikedEvent(8L, 8L))).isEqualTo(8);
+        log.close();
+    }
+}
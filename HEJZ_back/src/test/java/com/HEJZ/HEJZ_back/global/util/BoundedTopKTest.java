@@ -0,0 +1,87 @@
+package com.HEJZ.HEJZ_back.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedTopKTest {
+
+    private record Item(double score, long time, long id) {
+    }
+
+    // score desc → time desc → id desc
+    private static final Comparator<Item> BEST_FIRST = Comparator.comparingDouble(Item::score)
+            .thenComparingLong(Item::time)
+            .thenComparingLong(Item::id)
+            .reversed();
+
+    @Test
+    void keepsTopKInOrderAgainstFullSort() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            int k = 1 + random.nextInt(20);
+            int n = random.nextInt(200);
+            List<Item> items = new ArrayList<>();
+            BoundedTopK<Item> heap = new BoundedTopK<>(k);
+            for (int i = 0; i < n; i++) {
+                // 점수/시각을 좁은 범위로 뽑아 동점 처리까지 확인
+                Item item = new Item(random.nextInt(10), random.nextInt(5), i);
+                items.add(item);
+                heap.offer(item.score(), item.time(), item.id(), item);
+            }
+            items.sort(BEST_FIRST);
+            List<Item> expected = items.subList(0, Math.min(k, n));
+
+            assertThat(heap.size()).isEqualTo(expected.size());
+            assertThat(heap.drainSorted()).containsExactlyElementsOf(expected);
+            assertThat(heap.size()).isZero();
+        }
+    }
+
+    @Test
+    void drainSortedIdsMatchesPayloadOrder() {
+        BoundedTopK<String> heap = new BoundedTopK<>(3);
+        heap.offer(1.0, 0, 1, "a");
+        heap.offer(3.0, 0, 2, "b");
+        heap.offer(2.0, 0, 3, "c");
+        heap.offer(0.5, 0, 4, "d");
+        heap.offer(2.0, 1, 5, "e"); // 같은 점수면 최신이 앞
+
+        assertThat(heap.drainSortedIds()).containsExactly(2, 5, 3);
+    }
+
+    @Test
+    void offerReportsWhetherCandidateEntered() {
+        BoundedTopK<String> heap = new BoundedTopK<>(2);
+        assertThat(heap.minScore()).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(heap.offer(5.0, 0, 1, "a")).isTrue();
+        assertThat(heap.offer(4.0, 0, 2, "b")).isTrue();
+        assertThat(heap.isFull()).isTrue();
+        assertThat(heap.minScore()).isEqualTo(4.0);
+
+        assertThat(heap.offer(3.0, 0, 3, "c")).isFalse();
+        assertThat(heap.offer(4.0, 0, 2, "b-again")).isFalse(); // 루트와 완전히 같으면 교체하지 않음
+        assertThat(heap.offer(4.5, 0, 4, "d")).isTrue();
+        assertThat(heap.minScore()).isEqualTo(4.5);
+    }
+
+    @Test
+    void clearEmptiesHeap() {
+        BoundedTopK<String> heap = new BoundedTopK<>(2);
+        heap.offer(1.0, 0, 1, "a");
+        heap.clear();
+        assertThat(heap.size()).isZero();
+        assertThat(heap.drainSorted()).isEmpty();
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new BoundedTopK<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
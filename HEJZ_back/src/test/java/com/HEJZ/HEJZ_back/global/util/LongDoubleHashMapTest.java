@@ -0,0 +1,79 @@
+package com.HEJZ.HEJZ_back.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongDoubleHashMapTest {
+
+    @Test
+    void matchesHashMapThroughRehash() {
+        Random random = new Random(3);
+        LongDoubleHashMap map = new LongDoubleHashMap(2);
+        Map<Long, Double> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            // 작은 범위 키로 덮어쓰기/addTo가 자주 겹치게
+            long key = random.nextInt(2000) - 1000;
+            double v = random.nextDouble();
+            if (random.nextBoolean()) {
+                map.put(key, v);
+                expected.put(key, v);
+            } else {
+                map.addTo(key, v);
+                expected.merge(key, v, Double::sum);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((k, v) -> {
+            assertThat(map.containsKey(k)).isTrue();
+            assertThat(map.get(k, Double.NaN)).isEqualTo(v);
+        });
+        assertThat(map.get(5000L, -1.0)).isEqualTo(-1.0);
+
+        Map<Long, Double> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertThat(seen).isEqualTo(expected);
+    }
+
+    @Test
+    void zeroKeyIsStoredSeparately() {
+        LongDoubleHashMap map = new LongDoubleHashMap();
+        assertThat(map.containsKey(0L)).isFalse();
+        assertThat(map.get(0L, 7.0)).isEqualTo(7.0);
+
+        map.addTo(0L, 1.5);
+        map.addTo(0L, 1.0);
+        assertThat(map.containsKey(0L)).isTrue();
+        assertThat(map.get(0L, 0.0)).isEqualTo(2.5);
+        assertThat(map.size()).isEqualTo(1);
+
+        Map<Long, Double> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertThat(seen).containsExactly(Map.entry(0L, 2.5));
+    }
+
+    @Test
+    void copyIsIndependent() {
+        LongDoubleHashMap map = new LongDoubleHashMap();
+        map.put(1L, 1.0);
+        map.put(0L, 2.0);
+        LongDoubleHashMap copy = map.copy();
+
+        copy.put(1L, 10.0);
+        copy.put(0L, 20.0);
+        for (long k = 2; k < 100; k++) {
+            copy.put(k, k); // 사본만 rehash
+        }
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L, 0.0)).isEqualTo(1.0);
+        assertThat(map.get(0L, 0.0)).isEqualTo(2.0);
+        assertThat(map.containsKey(50L)).isFalse();
+        assertThat(copy.size()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,99 @@
+package com.HEJZ.HEJZ_back.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongFloatHashMapTest {
+
+    private static Map<Long, Float> contents(LongFloatHashMap map) {
+        Map<Long, Float> seen = new HashMap<>();
+        map.forEach(seen::put);
+        return seen;
+    }
+
+    @Test
+    void matchesHashMapThroughRemovesAndRehash() {
+        Random random = new Random(5);
+        LongFloatHashMap map = new LongFloatHashMap(2);
+        Map<Long, Float> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // 작은 범위 키(0 포함)로 삽입/삭제가 같은 클러스터에서 자주 겹치게
+            long key = random.nextInt(300) - 150;
+            int op = random.nextInt(3);
+            if (op == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                float v = random.nextInt(100);
+                map.put(key, v);
+                expected.put(key, v);
+            }
+            if (i % 500 == 0) {
+                assertThat(contents(map)).isEqualTo(expected);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((k, v) -> assertThat(map.get(k, Float.NaN)).isEqualTo(v));
+        assertThat(contents(map)).isEqualTo(expected);
+    }
+
+    @Test
+    void backwardShiftKeepsCollidingKeysReachable() {
+        // 같은 클러스터에 몰리도록 많이 넣은 뒤 앞쪽부터 지운다
+        LongFloatHashMap map = new LongFloatHashMap(64);
+        for (long k = 1; k <= 60; k++) {
+            map.put(k, k);
+        }
+        int capacity = map.capacity();
+        for (long k = 1; k <= 60; k += 2) {
+            map.remove(k);
+        }
+
+        assertThat(map.capacity()).isEqualTo(capacity);
+        assertThat(map.size()).isEqualTo(30);
+        for (long k = 1; k <= 60; k++) {
+            assertThat(map.get(k, -1f)).isEqualTo(k % 2 == 0 ? k : -1f);
+        }
+        map.remove(999L); // 없는 키
+        assertThat(map.size()).isEqualTo(30);
+    }
+
+    @Test
+    void zeroKeyIsStoredSeparately() {
+        LongFloatHashMap map = new LongFloatHashMap();
+        assertThat(map.get(0L, 7f)).isEqualTo(7f);
+
+        assertThat(map.addTo(0L, 1.5f)).isEqualTo(1.5f);
+        map.put(1L, 2f);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(contents(map)).containsEntry(0L, 1.5f).containsEntry(1L, 2f);
+
+        map.remove(0L);
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(0L, -1f)).isEqualTo(-1f);
+        assertThat(contents(map)).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void rehashGrowsAndKeepsValues() {
+        LongFloatHashMap map = new LongFloatHashMap();
+        int initial = map.capacity();
+        for (long k = -500; k <= 500; k++) {
+            map.addTo(k * 1_000_003L, 1f);
+            map.addTo(k * 1_000_003L, 0.5f);
+        }
+
+        assertThat(map.capacity()).isGreaterThan(initial);
+        assertThat(map.size() * 2).isLessThanOrEqualTo(map.capacity());
+        assertThat(map.size()).isEqualTo(1001);
+        for (long k = -500; k <= 500; k++) {
+            assertThat(map.get(k * 1_000_003L, 0f)).isEqualTo(1.5f);
+        }
+    }
+}
@@ -19,6 +19,14 @@ export interface CommentCreateRequest {
 
 export interface CommentRequest {
   feedId: number;
+  cursor?: string | null;
+  limit?: number;
+}
+
+// 댓글 목록 페이지 (nextCursor가 null이면 마지막)
+export interface CommentPage {
+  items: CommentDto[];
+  nextCursor: string | null;
 }
 
 export interface CommentDeleteRequest {
@@ -85,23 +93,51 @@ export async function createComment(feedId: number, comment: string): Promise<Co
   });
 }
 
-// POST /api/comments/getcomments  (피드별 댓글 조회)
-export async function getCommentsByFeed(feedId: number): Promise<CommentDto[]> {
-  return http<CommentDto[]>('/api/comments/getcomments', {
+// POST /api/comments/getcomments  (피드별 댓글 한 페이지, 오래된 순)
+export async function getCommentsPage(feedId: number, cursor?: string | null, limit?: number): Promise<CommentPage> {
+  return http<CommentPage>('/api/comments/getcomments', {
     method: 'POST',
     auth: true,
-    body: JSON.stringify({ feedId } as CommentRequest),
+    body: JSON.stringify({ feedId, cursor: cursor ?? null, limit } as CommentRequest),
   });
 }
 
-// GET /api/comments/getmycomments  (내 댓글 목록)
-export async function getMyComments(): Promise<CommentDto[]> {
-  return http<CommentDto[]>('/api/comments/getmycomments', {
+// 피드 댓글 전체 (페이지를 끝까지 이어 받음)
+export async function getCommentsByFeed(feedId: number): Promise<CommentDto[]> {
+  const all: CommentDto[] = [];
+  let cursor: string | null = null;
+  do {
+    const page: CommentPage = await getCommentsPage(feedId, cursor, 100);
+    all.push(...page.items);
+    cursor = page.nextCursor;
+  } while (cursor);
+  return all;
+}
+
+// GET /api/comments/getmycomments  (내 댓글 한 페이지, 최신 순)
+export async function getMyCommentsPage(cursor?: string | null, limit?: number): Promise<CommentPage> {
+  const params = new URLSearchParams();
+  if (cursor) params.append('cursor', cursor);
+  if (limit) params.append('limit', String(limit));
+  const qs = params.toString();
+  return http<CommentPage>(`/api/comments/getmycomments${qs ? `?${qs}` : ''}`, {
     method: 'GET',
     auth: true,
   });
 }
 
+// 내 댓글 전체 (페이지를 끝까지 이어 받음)
+export async function getMyComments(): Promise<CommentDto[]> {
+  const all: CommentDto[] = [];
+  let cursor: string | null = null;
+  do {
+    const page: CommentPage = await getMyCommentsPage(cursor, 100);
+    all.push(...page.items);
+    cursor = page.nextCursor;
+  } while (cursor);
+  return all;
+}
+
 // DELETE /api/comments/delete  (body: { commentId })
 export async function deleteComment(commentId: number): Promise<void> {
   await http<void>('/api/comments/delete', {
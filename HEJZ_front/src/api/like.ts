@@ -63,29 +63,60 @@ export async function isLiked(feedId: number): Promise<any>{
     return json?.data ?? json;
 }
 
-export async function getListOfLike(feedId: number): Promise<any>{
+// 피드 목록의 좋아요 상태를 한 번에 (feedId → true/false, 최대 100개)
+export async function getLikeStates(feedIds: number[]): Promise<Record<number, boolean>> {
+    if (feedIds.length === 0) return {};
     const token = await getAuthToken();
-    console.log('[getListOfLike] 요청:', feedId, 'token:', !!token);
 
-    const res = await fetch(`${BASE_URL}/api/feeds/like/get_list_of_like`, {
+    const res = await fetch(`${BASE_URL}/api/feeds/like/states`, {
         method: 'POST',
         headers: {
             'Content-Type': 'application/json',
             Accept: 'application/json',
             ...(token ? { Authorization: `Bearer ${token}` } : {}),
         },
-        body: JSON.stringify({ feedId }),
+        body: JSON.stringify({ feedIds }),
     });
 
     const json = await res.json();
-    console.log('[getListOfLike] 응답:', json);
-
     const code = json?.code ?? res.status;
 
     if (code !== 200) {
-        throw new Error(json?.msg ?? json?.message ?? '좋아요 조회 실패');
+        throw new Error(json?.msg ?? json?.message ?? '좋아요 상태 조회 실패');
     }
 
-    console.log('[getListOfLike] 성공!');
-    return json?.data ?? json;
-}
\ No newline at end of file
+    return json?.data ?? {};
+}
+
+// 좋아요 누른 유저 목록 (좋아요 최신 순). 서버는 cursor 페이지로 주고, 여기서 끝까지 모아 배열로 반환
+export async function getListOfLike(feedId: number): Promise<any[]>{
+    const token = await getAuthToken();
+    console.log('[getListOfLike] 요청:', feedId, 'token:', !!token);
+
+    const all: any[] = [];
+    let cursor: string | null = null;
+    do {
+        const res = await fetch(`${BASE_URL}/api/feeds/like/get_list_of_like`, {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/json',
+                Accept: 'application/json',
+                ...(token ? { Authorization: `Bearer ${token}` } : {}),
+            },
+            body: JSON.stringify({ feedId, cursor, limit: 100 }),
+        });
+
+        const json = await res.json();
+        const code = json?.code ?? res.status;
+
+        if (code !== 200) {
+            throw new Error(json?.msg ?? json?.message ?? '좋아요 조회 실패');
+        }
+
+        all.push(...(json?.data?.items ?? []));
+        cursor = json?.data?.nextCursor ?? null;
+    } while (cursor);
+
+    console.log('[getListOfLike] 성공!', all.length);
+    return all;
+}
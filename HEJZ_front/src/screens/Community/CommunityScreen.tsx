@@ -23,6 +23,7 @@ import { fetchTimeline, fetchGlobal, getFeed } from '../../api/feed'; // ✅ get
 import type { FeedItemDto } from '../../api/types/feed';
 import { BASE_URL } from '../../api/baseUrl';
 import { createComment, getCommentsByFeed, deleteComment, type CommentDto } from '../../api/comment';
+import { getLikeStates } from '../../api/like';
 import Heart from '../../assets/icon/heart.png';
 import HeartOutline from '../../assets/icon/heart-outline.png';
 import CommentIcon from '../../assets/icon/comments.png';
@@ -162,7 +163,19 @@ export default function CommunityScreen({ navigation }: any) {
 
         console.log('[CommunityScreen] Enriched first item:', enrichedItems[0]);
 
-        const filtered = enrichedItems.filter((it) => !blockedRef.current.has((it as any).userId));
+        // 좋아요 상태는 페이지 단위로 한 번에 조회
+        let likeStates: Record<number, boolean> = {};
+        try {
+          likeStates = await getLikeStates(
+            enrichedItems.map((it: any) => Number(it.id)).filter((id) => Number.isFinite(id) && id > 0)
+          );
+        } catch (e: any) {
+          console.error('[CommunityScreen] getLikeStates 실패:', e?.message);
+        }
+
+        const filtered = enrichedItems
+          .filter((it) => !blockedRef.current.has((it as any).userId))
+          .map((it: any) => ({ ...it, isLiked: Boolean(likeStates[Number(it.id)]) }));
 
         setItems((prev) => (reset ? filtered : [...prev, ...filtered]));
         setCursor(resp.nextCursor);
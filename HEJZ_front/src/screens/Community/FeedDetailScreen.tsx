@@ -244,12 +244,12 @@ export default function FeedDetailScreen() {
   // ✅ 좋아요 토글
   const toggleLike = async () => {
     try {
-      // 1. 좋아요 토글 API 호출
-      await likeFeed(feedId);
+      // 1. 좋아요 토글 API 호출 (응답의 liked가 토글 후 상태)
+      const result = await likeFeed(feedId);
       console.log('[toggleLike] 좋아요 API 호출 성공');
 
-      // 2. 좋아요 상태 확인 (true/false)
-      const checkIsLiked = await isLiked(feedId);
+      // 2. 좋아요 상태 (true/false)
+      const checkIsLiked = Boolean(result?.liked);
 
       // 3. 좋아요 목록 가져오기 (개수 확인)
       const likeList = await getListOfLike(feedId);